@@ -0,0 +1,37 @@
+package com.example.student.benchmark;
+
+import com.example.student.StudentApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 벤치마크용 스프링 컨텍스트 (MySQL 대신 인메모리 H2, 웹 서버 없이 실행)
+final class BenchmarkContext {
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+    
+    private BenchmarkContext() {
+    }
+    
+    // extraArgs: "--key=value" 형태로 설정 덮어쓰기
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench" + DATABASE_SEQUENCE.incrementAndGet()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(StudentApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
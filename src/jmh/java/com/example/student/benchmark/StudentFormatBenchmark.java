@@ -0,0 +1,74 @@
+package com.example.student.benchmark;
+
+import com.example.student.config.ContentNegotiationConfig;
+import com.example.student.dto.StudentDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/*
+목록 응답 형식별 직렬화 시간과 크기 (DB 없음)
+- rows: 목록 크기, format: json / cbor / smile (앱의 변환기와 같은 설정)
+- serialize: 직렬화만, serializeGzip: 직렬화 + gzip (톰캣 응답 압축과 같은 기본 압축 레벨)
+- 형식별 크기(바이트, gzip 전후)는 Setup에서 출력
+ */
+@State(Scope.Benchmark)
+public class StudentFormatBenchmark {
+    private static final String[] MAJORS = {"경영학과", "기계공학과", "컴퓨터공학과", "전자공학과", "경제학과",
+            "국어국문학과", "영어영문학과", "수학과", "물리학과", "화학과"};
+    
+    @Param({"10000", "100000"})
+    private int rows;
+    
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    
+    private ObjectMapper objectMapper;
+    private List<StudentDto> students;
+    private ByteArrayOutputStream out;
+    
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(ContentNegotiationConfig.smileFactory()).build();
+            default -> builder.build();
+        };
+        students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            students.add(new StudentDto((long) i + 1, "학생" + i, 20 + i % 10, MAJORS[i % MAJORS.length], 0L));
+        }
+        out = new ByteArrayOutputStream(rows * 128);
+        int plain = serialize();
+        int gzip = serializeGzip();
+        System.out.printf("%n[%s, %d건] %d바이트, gzip %d바이트%n", format, rows, plain, gzip);
+    }
+    
+    @Benchmark
+    public int serialize() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, students);
+        return out.size();
+    }
+    
+    @Benchmark
+    public int serializeGzip() throws IOException {
+        out.reset();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            objectMapper.writeValue(gzip, students);
+        }
+        return out.size();
+    }
+}
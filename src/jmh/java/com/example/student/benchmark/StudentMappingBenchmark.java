@@ -0,0 +1,50 @@
+package com.example.student.benchmark;
+
+import com.example.student.domain.Student;
+import com.example.student.dto.StudentDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+Student -> StudentDto 매핑만 따로 측정 (DB 없음)
+- builder: 서비스에서 쓰던 방식 (Builder 객체 + DTO)
+- constructor: 프로젝션과 같은 방식 (DTO만)
+ */
+@State(Scope.Benchmark)
+public class StudentMappingBenchmark {
+    private static final int SIZE = 1000;
+    
+    private Student[] students;
+    
+    @Setup
+    public void setUp() {
+        students = new Student[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            students[i] = new Student((long) i, "학생" + i, 20 + i % 10, "경영학과", 0L);
+        }
+    }
+    
+    @Benchmark
+    public void builder(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(StudentDto.builder()
+                    .studentId(student.getStudentId())
+                    .studentName(student.getStudentName())
+                    .age(student.getAge())
+                    .major(student.getMajor())
+                    .version(student.getVersion())
+                    .build());
+        }
+    }
+    
+    @Benchmark
+    public void constructor(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(new StudentDto(student.getStudentId(), student.getStudentName(),
+                    student.getAge(), student.getMajor(), student.getVersion()));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.student.benchmark;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentNameDto;
+import com.example.student.dto.StudentPageDto;
+import com.example.student.dto.StudentSearchCondition;
+import com.example.student.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+학생 검색 벤치마크 (H2, 100,000명)
+- indexed=true: db/student.sql과 같은 검색 인덱스 사용
+- indexed=false: 검색 인덱스와 (이름, 나이, 전공) 유니크 인덱스를 지워서 테이블 전체를 읽게 함
+- searchAgeRange는 어느 쪽이든 PK 순서로 읽음 (나이 인덱스를 두면 범위 전체를 읽고 정렬해야 해서 오히려 느렸음)
+- fetchAllAndFilter: 지금 클라이언트가 하는 방식 (전체 조회 후 직접 거르기)
+- autocomplete: 이름 앞부분 검색을 메모리 인덱스로 처리 (searchNamePrefix와 비교)
+- 시작할 때 조건별 실행 계획을 출력 (어떤 인덱스를 타는지 확인용)
+ */
+@State(Scope.Benchmark)
+public class StudentSearchBenchmark {
+    private static final int PRELOADED = 100_000;
+    private static final int MAJORS = 10;
+    private static final int AGES = 50;
+    
+    @Param({"true", "false"})
+    public boolean indexed;
+    
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        studentService = context.getBean(StudentService.class);
+        List<StudentDto> students = new ArrayList<>();
+        for (int i = 0; i < PRELOADED; i++) {
+            students.add(StudentDto.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i % AGES)
+                    .major("전공" + i % MAJORS)
+                    .build());
+            if (students.size() == 1000) {
+                studentService.addStudents(students);
+                students.clear();
+            }
+        }
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!indexed) {
+            jdbcTemplate.execute("drop index idx_student_major_age");
+            jdbcTemplate.execute("alter table student drop constraint uk_student_name_age_major");
+        }
+        jdbcTemplate.execute("analyze");
+        for (String where : List.of("major = '전공1' and age between 30 and 34",
+                "age between 30 and 31",
+                "student_name like '학생12%'")) {
+            System.out.println("[indexed=" + indexed + "] " + where + "\n" + jdbcTemplate.queryForObject(
+                    "explain select student_id, student_name, age, major from student where " + where
+                            + " order by student_id", String.class));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public StudentPageDto searchMajorAndAge() {
+        int age = 20 + ThreadLocalRandom.current().nextInt(AGES - 5);
+        return studentService.searchStudents(StudentSearchCondition.builder()
+                .major(randomMajor())
+                .minAge(age)
+                .maxAge(age + 4)
+                .build(), null, StudentService.DEFAULT_PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public StudentPageDto searchAgeRange() {
+        int age = 20 + ThreadLocalRandom.current().nextInt(AGES - 1);
+        return studentService.searchStudents(StudentSearchCondition.builder()
+                .minAge(age)
+                .maxAge(age + 1)
+                .build(), null, StudentService.DEFAULT_PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public StudentPageDto searchNamePrefix() {
+        return studentService.searchStudents(StudentSearchCondition.builder()
+                .namePrefix("학생" + ThreadLocalRandom.current().nextInt(100, 1000))
+                .build(), null, StudentService.DEFAULT_PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public List<StudentNameDto> autocomplete() {
+        return studentService.autocomplete("학생" + ThreadLocalRandom.current().nextInt(100, 1000),
+                StudentService.DEFAULT_AUTOCOMPLETE_SIZE);
+    }
+    
+    @Benchmark
+    public List<StudentDto> fetchAllAndFilter() {
+        String major = randomMajor();
+        int age = 20 + ThreadLocalRandom.current().nextInt(AGES - 5);
+        return studentService.findAllStudents().stream()
+                .filter(student -> student.getMajor().equals(major))
+                .filter(student -> student.getAge() >= age && student.getAge() <= age + 4)
+                .limit(StudentService.DEFAULT_PAGE_SIZE)
+                .toList();
+    }
+    
+    private static String randomMajor() {
+        return "전공" + ThreadLocalRandom.current().nextInt(MAJORS);
+    }
+}
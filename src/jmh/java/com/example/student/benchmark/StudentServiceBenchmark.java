@@ -0,0 +1,105 @@
+package com.example.student.benchmark;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+StudentService 주요 경로 벤치마크 (H2)
+- 미리 10,000명 등록해 두고 조회/수정
+- 등록은 매번 새 이름, 삭제는 등록 + 삭제를 한 번에 측정
+- cache=none 이면 조회가 매번 DB까지 감, caffeine 이면 캐시 적중 경로
+ */
+@State(Scope.Benchmark)
+public class StudentServiceBenchmark {
+    private static final int PRELOADED = 10_000;
+    
+    @Param({"none", "caffeine"})
+    public String cache;
+    
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private final List<Long> ids = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("--spring.cache.type=" + cache);
+        studentService = context.getBean(StudentService.class);
+        List<StudentDto> students = new ArrayList<>();
+        for (int i = 0; i < PRELOADED; i++) {
+            students.add(newStudent("학생" + i));
+            if (students.size() == 1000) {
+                ids.addAll(studentService.addStudents(students));
+                students.clear();
+            }
+        }
+        if (!students.isEmpty()) {
+            ids.addAll(studentService.addStudents(students));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Long addStudent() {
+        return studentService.addStudent(newStudent("신입생" + sequence.incrementAndGet()));
+    }
+    
+    @Benchmark
+    public StudentDto findStudent() {
+        return studentService.findStudent(randomId());
+    }
+    
+    @Benchmark
+    public Object findStudentsPage() {
+        return studentService.findStudents(randomId(), StudentService.DEFAULT_PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public List<StudentDto> findAllStudents() {
+        return studentService.findAllStudents();
+    }
+    
+    @Benchmark
+    public void updateStudent() {
+        Long id = randomId();
+        studentService.updateStudent(id, StudentDto.builder()
+                .studentName("수정" + id)
+                .age(ThreadLocalRandom.current().nextInt(20, 30))
+                .major("경영학과")
+                .build());
+    }
+    
+    @Benchmark
+    public void addAndDeleteStudent() {
+        Long id = studentService.addStudent(newStudent("휴학생" + sequence.incrementAndGet()));
+        studentService.deleteStudent(id);
+    }
+    
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+    
+    private static StudentDto newStudent(String name) {
+        return StudentDto.builder()
+                .studentName(name)
+                .age(20)
+                .major("경영학과")
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.student.benchmark;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+플랫폼 스레드 vs 가상 스레드 동시 요청 처리 비교
+- 한 번에 concurrency 개의 요청을 보내고 모두 끝날 때까지를 1회로 측정
+- platform: 톰캣 기본 최대 스레드 수(200)와 같은 고정 스레드 풀
+- virtual: 요청마다 가상 스레드, ConnectionPoolLimitFilter처럼 커넥션 풀 크기 세마포어로 DB 구간 제한
+- ioMillis: DB 조회 뒤 다른 블로킹 I/O(외부 호출, 응답 전송 등)를 흉내 낸 대기 시간
+ */
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+    private static final int POOL_SIZE = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    
+    @Param({"platform", "virtual"})
+    public String threads;
+    
+    @Param({"1000"})
+    public int concurrency;
+    
+    @Param({"0", "5"})
+    public int ioMillis;
+    
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private ExecutorService executor;
+    private Semaphore permits;
+    private final List<Long> ids = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.cache.type=none",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE);
+        studentService = context.getBean(StudentService.class);
+        List<StudentDto> students = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            students.add(StudentDto.builder().studentName("학생" + i).age(20).major("경영학과").build());
+        }
+        ids.addAll(studentService.addStudents(students));
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        permits = "virtual".equals(threads) ? new Semaphore(POOL_SIZE, true) : null;
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+    
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<StudentDto>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(this::handleRequest));
+        }
+        int done = 0;
+        for (Future<StudentDto> future : futures) {
+            future.get();
+            done++;
+        }
+        return done;
+    }
+    
+    private StudentDto handleRequest() throws InterruptedException {
+        StudentDto student;
+        if (permits != null) {
+            permits.acquire();
+            try {
+                student = studentService.findStudent(randomId());
+            } finally {
+                permits.release();
+            }
+        } else {
+            student = studentService.findStudent(randomId());
+        }
+        if (ioMillis > 0) {
+            Thread.sleep(ioMillis);
+        }
+        return student;
+    }
+    
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.student.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/*
+캐시 설정 (구현체와 크기/TTL은 application.properties의 spring.cache.*)
+캐시 어드바이스를 트랜잭션보다 바깥에 둠
+- 캐시 적중 시 트랜잭션/커넥션을 아예 열지 않음
+- @CacheEvict는 트랜잭션 커밋 이후에 실행됨
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    // 학생 1명 조회 캐시 (key: 학번)
+    public static final String STUDENT_CACHE = "student";
+}
@@ -0,0 +1,63 @@
+package com.example.student.config;
+
+import com.example.student.filter.AdaptiveConcurrencyLimitFilter;
+import com.example.student.support.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/*
+학생 API 동시 처리 한도 필터 등록 (student.concurrency-limit.enabled=false면 끔)
+Idempotency-Key 필터 다음, 커넥션 풀 제한 필터(가상 스레드 모드) 앞에서 실행
+→ 저장된 응답을 다시 보내는 요청은 한도를 쓰지 않고, 넘치는 요청은 커넥션 허가를 기다리기 전에 거절
+원래 오래 걸리는 요청은 응답 시간을 한도 조절에 쓰지 않음 (UNSAMPLED_PATHS, 전체 목록 all=true)
+ */
+@Configuration
+@ConditionalOnProperty(value = "student.concurrency-limit.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+    // 검색, 내보내기, 일괄 등록/삭제/전공 변경
+    static final Set<String> UNSAMPLED_PATHS = Set.of(
+            "/students/search", "/students/export", "/students/batch", "/students/bulk-delete", "/students/major");
+    
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilter(
+            @Value("${student.concurrency-limit.read.initial:20}") int readInitial,
+            @Value("${student.concurrency-limit.read.min:2}") int readMin,
+            @Value("${student.concurrency-limit.read.max:200}") int readMax,
+            @Value("${student.concurrency-limit.read.latency-threshold:200ms}") Duration readLatencyThreshold,
+            @Value("${student.concurrency-limit.read.rtt-tolerance:2.0}") double readRttTolerance,
+            @Value("${student.concurrency-limit.write.initial:10}") int writeInitial,
+            @Value("${student.concurrency-limit.write.min:1}") int writeMin,
+            @Value("${student.concurrency-limit.write.max:50}") int writeMax,
+            @Value("${student.concurrency-limit.write.latency-threshold:500ms}") Duration writeLatencyThreshold,
+            @Value("${student.concurrency-limit.write.rtt-tolerance:2.0}") double writeRttTolerance,
+            @Value("${student.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(
+                readInitial, readMin, readMax, readLatencyThreshold, readRttTolerance, backoffRatio);
+        AdaptiveConcurrencyLimit writeLimit = new AdaptiveConcurrencyLimit(
+                writeInitial, writeMin, writeMax, writeLatencyThreshold, writeRttTolerance, backoffRatio);
+        FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new AdaptiveConcurrencyLimitFilter(readLimit, writeLimit, Set.of("/students/changes"),
+                        ConcurrencyLimitConfig::isUnsampled, meterRegistry));
+        registration.addUrlPatterns("/students", "/students/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 5);
+        return registration;
+    }
+    
+    // 응답 시간을 한도 조절에 쓰지 않는 요청
+    static boolean isUnsampled(HttpServletRequest request) {
+        String path = AdaptiveConcurrencyLimitFilter.path(request);
+        return UNSAMPLED_PATHS.contains(path)
+                || path.equals("/students") && "true".equalsIgnoreCase(request.getParameter("all"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.student.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*
+응답 형식 협상 (Accept 헤더로 선택, 요청 본문도 같은 형식으로 받음)
+- application/json: 기본
+- application/cbor, application/x-jackson-smile: 바이너리 형식, 숫자를 문자열로 바꾸지 않아 크기와 직렬화 비용이 작음
+- 세 형식 모두 스프링 부트 Jackson 설정(spring.jackson.*)을 그대로 사용
+- 압축(gzip)은 톰캣이 담당 (server.compression.*)
+ */
+@Configuration
+public class ContentNegotiationConfig {
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    
+    // 부트가 기본 변환기 목록에서 같은 종류를 이 빈으로 바꿔 끼움
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+    
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(smileFactory()).build());
+    }
+    
+    // 필드 이름뿐 아니라 전공처럼 반복되는 짧은 문자열 값도 한 번만 쓰고 이후는 참조로 씀 (기본은 필드 이름만)
+    public static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+}
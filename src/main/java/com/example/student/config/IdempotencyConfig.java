@@ -0,0 +1,37 @@
+package com.example.student.config;
+
+import com.example.student.filter.IdempotencyKeyFilter;
+import com.example.student.support.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/*
+쓰기 요청 Idempotency-Key 필터 등록
+동시 요청 제한 필터(가상 스레드 모드)보다 먼저 실행
+→ 저장된 응답을 다시 보내거나 처리 중인 요청을 기다리는 동안에는 커넥션 허가를 잡지 않음
+ */
+@Configuration
+public class IdempotencyConfig {
+    
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            @Value("${student.idempotency.stripes:64}") int stripes,
+            @Value("${student.idempotency.max-entries:100000}") int maxEntries,
+            @Value("${student.idempotency.ttl:1h}") Duration ttl,
+            @Value("${student.idempotency.wait-timeout:10s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        IdempotencyStore<IdempotencyKeyFilter.StoredResponse> store =
+                new IdempotencyStore<>(stripes, maxEntries, ttl, waitTimeout);
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyKeyFilter(store, meterRegistry));
+        registration.addUrlPatterns("/students", "/students/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.student.config;
+
+import com.example.student.support.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+읽기 복제본 라우팅 (student.datasource.replica-urls가 있을 때만)
+- 원본은 spring.datasource.*, 복제본은 URL만 다르고 계정/풀 설정은 원본과 같음
+- 복제본 풀은 처음 쓸 때 열리므로 시작 시 복제본이 죽어 있어도 기동은 됨
+- 복제본 커넥션 대기 시간은 짧게 (replica-connection-timeout, Hikari 최소 250ms)
+  죽은 복제본은 연결에 실패해야 제외되므로, 원본과 같은 기본값(30초)이면 그동안 읽기가 전부 멈춤
+ */
+@Configuration
+@ConditionalOnProperty("student.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${student.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${student.datasource.read-your-writes-window:1s}") Duration readYourWritesWindow,
+            @Value("${student.datasource.replica-retry-interval:5s}") Duration retryInterval,
+            @Value("${student.datasource.replica-connection-timeout:500ms}") Duration connectionTimeout) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setPoolName("replica-" + replicas.size());
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesWindow, retryInterval);
+    }
+    
+    // JPA/JDBC가 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.student.config;
+
+import com.example.student.domain.StudentIdGenerator;
+import com.example.student.support.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+학생 테이블 샤딩 (student.datasource.shard-urls가 있을 때만)
+- 0번 샤드는 spring.datasource.* (샤딩 전 DB 그대로), 1번부터는 shard-urls 순서대로
+  URL만 다르고 계정/풀 설정은 0번과 같음
+- 샤드 선택은 StudentShards (새 학생은 (이름, 나이, 전공) 해시, 기존 학생은 학번의 샤드 번호)
+- 스키마(ddl-auto)는 0번 샤드에만 만들어지므로 나머지 샤드는 db/student.sql로 미리 만들어 둬야 함
+  0번 샤드의 student_key(샤드 사이 중복 확인용 키 목록)도 엔티티가 아니라서 db/student.sql로 만들고 기존 학생을 채워 둬야 함
+- 샤드를 늘리면 해시가 바뀌므로 기존 학생을 옮기지 않는 한 샤드 수는 바꾸지 않음
+- 읽기 복제본(student.datasource.replica-urls)과는 같이 쓸 수 없음 (dataSource 빈이 겹침)
+- 학번은 시퀀스 대신 샤드 번호가 들어간 Snowflake 학번 (StudentIdGenerator, 노드 번호 설정 필수)
+ */
+@Configuration
+@ConditionalOnProperty("student.datasource.shard-urls")
+public class ShardDataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource firstShardDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+    
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(
+            HikariDataSource firstShardDataSource,
+            @Value("${student.datasource.shard-urls}") List<String> shardUrls) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(firstShardDataSource);
+        for (String url : shardUrls) {
+            HikariDataSource shard = new HikariDataSource();
+            firstShardDataSource.copyStateTo(shard);
+            shard.setJdbcUrl(url);
+            shard.setPoolName("shard-" + shards.size());
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+    
+    // 학번 생성기를 Snowflake 방식으로
+    @Bean
+    public HibernatePropertiesCustomizer shardedStudentIdCustomizer() {
+        return properties -> properties.put(StudentIdGenerator.SHARDED_SETTING, "true");
+    }
+    
+    // JPA/JDBC가 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
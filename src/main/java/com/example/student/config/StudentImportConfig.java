@@ -0,0 +1,26 @@
+package com.example.student.config;
+
+import com.example.student.service.StudentCsvImporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/*
+시작할 때 CSV 파일 가져오기 (student.import.file을 지정했을 때만)
+예) java -jar student.jar --student.import.file=/data/students.csv --spring.main.web-application-type=none
+    → 웹 서버 없이 가져오기만 하고 종료, 중간에 멈추면 같은 명령으로 다시 실행하면 이어서 가져옴
+ */
+@Configuration
+@ConditionalOnProperty("student.import.file")
+public class StudentImportConfig {
+    
+    @Bean
+    public ApplicationRunner studentImportRunner(StudentCsvImporter studentCsvImporter,
+                                                 @Value("${student.import.file}") Path file) {
+        return args -> studentCsvImporter.importFile(file);
+    }
+}
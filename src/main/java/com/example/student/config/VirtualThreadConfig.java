@@ -0,0 +1,34 @@
+package com.example.student.config;
+
+import com.example.student.filter.ConnectionPoolLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/*
+가상 스레드 모드 (spring.threads.virtual.enabled=true)
+톰캣 요청 처리가 가상 스레드로 바뀌므로 동시 요청 수를 커넥션 풀 크기로 제한
+(변경 피드 구독은 연결이 오래 유지되고 DB를 쓰지 않으므로 제한하지 않음)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLimitFilter> connectionPoolLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${student.virtual-threads.acquire-timeout:2s}") Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConnectionPoolLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConnectionPoolLimitFilter(poolSize, acquireTimeout, Set.of("/students/changes"), meterRegistry));
+        registration.addUrlPatterns("/students", "/students/*");
+        return registration;
+    }
+}
@@ -1,19 +1,56 @@
 package com.example.student.controller;
 
+import com.example.student.dto.StudentBulkDeleteDto;
 import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentIngestionDto;
+import com.example.student.dto.StudentMajorChangeDto;
+import com.example.student.dto.StudentNameDto;
+import com.example.student.dto.StudentPageDto;
+import com.example.student.dto.StudentPatchDto;
+import com.example.student.dto.StudentSearchCondition;
+import com.example.student.dto.StudentStatsDto;
+import com.example.student.exception.StudentVersionMismatchException;
+import com.example.student.service.StudentChangeFeed;
+import com.example.student.service.StudentIngestionQueue;
+import com.example.student.service.StudentListSnapshot;
+import com.example.student.service.StudentLookupCoalescer;
+import com.example.student.service.StudentModificationCounter;
 import com.example.student.service.StudentService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/students")
 @RequiredArgsConstructor
 public class StudentController {
+    // 다음 페이지 커서를 담는 응답 헤더
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final StudentService studentService;
+    private final StudentLookupCoalescer studentLookupCoalescer;
+    private final StudentModificationCounter studentModificationCounter;
+    private final StudentIngestionQueue studentIngestionQueue;
+    private final StudentChangeFeed studentChangeFeed;
+    private final StudentListSnapshot studentListSnapshot;
+    private final ObjectMapper objectMapper;
     
     // 학생 정보 등록
     @PostMapping
@@ -22,32 +59,237 @@ public class StudentController {
         return ResponseEntity.ok(studentId);
     }
     
+    // 학생 정보 일괄 등록
+    @PostMapping("/batch")
+    public ResponseEntity<List<Long>> addStudents(@RequestBody List<StudentDto> studentDtos) {
+        List<Long> studentIds = studentService.addStudents(studentDtos);
+        return ResponseEntity.ok(studentIds);
+    }
+    
+    // 학생 정보 비동기 등록
+    // 큐에 넣고 바로 202와 접수 번호 반환 (큐가 가득 차면 429), 처리 상태는 Location으로 조회
+    @PostMapping("/ingest")
+    public ResponseEntity<StudentIngestionDto> ingestStudent(@RequestBody StudentDto studentDto) {
+        StudentIngestionDto ingestion = studentIngestionQueue.submit(studentDto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/students/ingest/" + ingestion.getTrackingId()))
+                .body(ingestion);
+    }
+    
+    // 비동기 등록 처리 상태 조회
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<StudentIngestionDto> findIngestion(@PathVariable String trackingId) {
+        StudentIngestionDto ingestion = studentIngestionQueue.find(trackingId)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 접수 번호입니다. trackingId=" + trackingId));
+        return ResponseEntity.ok(ingestion);
+    }
+    
     // 학생 정보 조회(1명)
+    // ETag는 버전, If-None-Match가 같으면 본문 없이 304 (스프링이 ETag 헤더를 보고 처리)
+    // 조회는 캐시를 거치므로 캐시에 있으면 304도 DB를 거치지 않음 (수정/삭제 시 캐시에서 제거)
     @GetMapping("/{studentId}")
     public ResponseEntity<StudentDto> findStudent(@PathVariable Long studentId) {
-        StudentDto studentDto = studentService.findStudent(studentId);
-        return ResponseEntity.ok(studentDto);
+        // 같은 학번 동시 조회는 하나로 합쳐서 처리
+        StudentDto studentDto = studentLookupCoalescer.findStudent(studentId);
+        return ResponseEntity.ok()
+                .eTag(StudentETags.of(studentDto.getVersion()))
+                .body(studentDto);
     }
     
     // 전체 학생 정보 조회
+    // 기본은 학번 기준 커서 페이지 조회, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달
+    // 전체 목록은 all=true 로 명시한 경우에만 반환
+    // ETag는 전체 변경 횟수, If-None-Match가 같으면 DB 조회 없이 304
+    // JSON이면 미리 직렬화해 둔 스냅샷 구간을 응답에 바로 씀 (스냅샷이 없으면 DB 조회)
     @GetMapping
-    public ResponseEntity<List<StudentDto>> findAllStudents() {
-        List<StudentDto> students = studentService.findAllStudents();
+    public ResponseEntity<List<StudentDto>> findAllStudents(@RequestParam(required = false) Long afterId,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(defaultValue = "false") boolean all,
+                                                            WebRequest webRequest,
+                                                            HttpServletResponse response) throws IOException {
+        if (prefersJson(webRequest.getHeader(HttpHeaders.ACCEPT))) {
+            Optional<StudentListSnapshot.Page> snapshot = all
+                    ? studentListSnapshot.all()
+                    : studentListSnapshot.page(afterId, limit);
+            if (snapshot.isPresent()) {
+                writeSnapshot(snapshot.get(), webRequest, response);
+                return null;
+            }
+        }
+        String etag = studentModificationCounter.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        if (all) {
+            List<StudentDto> students = studentService.findAllStudents();
+            return ResponseEntity.ok().eTag(etag).body(students);
+        }
+        StudentPageDto page = studentService.findStudents(afterId, limit);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return builder.body(page.getStudents());
+    }
+    
+    // 스냅샷 응답 (ETag는 스냅샷을 만들 때의 값)
+    private static void writeSnapshot(StudentListSnapshot.Page page, WebRequest webRequest,
+                                      HttpServletResponse response) throws IOException {
+        if (webRequest.checkNotModified(page.etag())) {
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, page.etag());
+        if (page.nextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        response.setContentLengthLong(page.contentLength());
+        page.writeTo(response.getOutputStream());
+    }
+    
+    // Accept에서 가장 우선하는 형식이 JSON인지 (없거나 */*이면 JSON, CBOR/Smile이면 변환기로)
+    private static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        MediaType preferred = null;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (preferred == null || type.getQualityValue() > preferred.getQualityValue()) {
+                    preferred = type;
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return preferred != null && preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+    }
+    
+    // 학생 검색 (전공, 나이 범위, 이름 앞부분)
+    // 페이지 방식은 전체 학생 정보 조회와 같음 (다음 페이지 커서는 X-Next-Cursor 헤더)
+    @GetMapping("/search")
+    public ResponseEntity<List<StudentDto>> searchStudents(@RequestParam(required = false) String major,
+                                                           @RequestParam(required = false) Integer minAge,
+                                                           @RequestParam(required = false) Integer maxAge,
+                                                           @RequestParam(required = false) String namePrefix,
+                                                           @RequestParam(required = false) Long afterId,
+                                                           @RequestParam(required = false) Integer limit) {
+        StudentSearchCondition condition = StudentSearchCondition.builder()
+                .major(major)
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .namePrefix(namePrefix)
+                .build();
+        StudentPageDto page = studentService.searchStudents(condition, afterId, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getStudents());
+    }
+    
+    // 이름 자동완성 (이름 앞부분이 같은 학생의 학번과 이름)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<StudentNameDto>> autocomplete(@RequestParam String prefix,
+                                                             @RequestParam(required = false) Integer limit) {
+        List<StudentNameDto> students = studentService.autocomplete(prefix, limit);
         return ResponseEntity.ok(students);
     }
     
+    // 학생 통계 (전체 수, 전공별 수, 나이별 수)
+    @GetMapping("/stats")
+    public ResponseEntity<StudentStatsDto> findStatistics() {
+        StudentStatsDto stats = studentService.findStatistics();
+        return ResponseEntity.ok(stats);
+    }
+    
+    // 전체 학생 정보 내보내기 (NDJSON 스트리밍)
+    // DB에서 읽는 대로 한 줄씩 응답에 바로 씀
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // 응답 스트림은 컨테이너가 닫음
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                studentService.exportStudents(student -> {
+                    try {
+                        generator.writeObject(student);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    // 학생 변경 피드 (Server-Sent Events)
+    // 전체 목록을 반복 조회하는 대신 등록/수정/삭제를 커밋되는 대로 받음
+    // 다시 연결할 때 Last-Event-ID를 보내면 놓친 변경부터 이어서 받음 (너무 오래됐으면 reset 이벤트 → 목록 다시 조회)
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return studentChangeFeed.subscribe(lastEventId);
+    }
+    
     // 학생 정보 수정
+    // If-Match(조회 때 받은 ETag)가 있으면 그 버전일 때만 수정, 다르면 412
     @PutMapping("/{studentId}")
     public ResponseEntity<Void> updateStudent(@PathVariable Long studentId,
-                                              @RequestBody StudentDto studentDto) {
-        studentService.updateStudent(studentId, studentDto);
+                                              @RequestBody StudentDto studentDto,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = StudentETags.expectedVersion(ifMatch);
+        requireExisting(studentId, ifMatch, () -> studentService.updateStudent(studentId, studentDto, expectedVersion));
+        if (expectedVersion == null) {
+            return ResponseEntity.noContent().build();
+        }
+        // 버전을 확인한 수정이면 새 버전을 알 수 있음
+        return ResponseEntity.noContent().eTag(StudentETags.of(expectedVersion + 1)).build();
+    }
+    
+    // 학생 정보 일부 수정 (보낸 필드만 수정)
+    @PatchMapping("/{studentId}")
+    public ResponseEntity<Void> patchStudent(@PathVariable Long studentId,
+                                             @RequestBody StudentPatchDto studentPatchDto) {
+        studentService.patchStudent(studentId, studentPatchDto);
         return ResponseEntity.noContent().build();
     }
     
     // 학생 정보 삭제
+    // If-Match(조회 때 받은 ETag)가 있으면 그 버전일 때만 삭제, 다르면 412
     @DeleteMapping("/{studentId}")
-    public ResponseEntity<Void> deleteStudent(@PathVariable Long studentId) {
-        studentService.deleteStudent(studentId);
+    public ResponseEntity<Void> deleteStudent(@PathVariable Long studentId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        requireExisting(studentId, ifMatch,
+                () -> studentService.deleteStudent(studentId, StudentETags.expectedVersion(ifMatch)));
         return ResponseEntity.noContent().build();
     }
+    
+    // If-Match: *는 "학생이 있으면"이라는 조건이므로 없는 학생은 404가 아니라 412 (RFC 9110 13.1.1)
+    private static void requireExisting(Long studentId, String ifMatch, Runnable action) {
+        try {
+            action.run();
+        } catch (EntityNotFoundException e) {
+            if (!StudentETags.isAny(ifMatch)) {
+                throw e;
+            }
+            throw new StudentVersionMismatchException("존재하지 않는 학생입니다. id=" + studentId + ", If-Match=*");
+        }
+    }
+    
+    // 학생 정보 일괄 삭제 (학번 목록 또는 전공), 삭제된 학생 수 반환
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Integer> deleteStudents(@RequestBody StudentBulkDeleteDto studentBulkDeleteDto) {
+        int deleted = studentService.deleteStudents(studentBulkDeleteDto);
+        return ResponseEntity.ok(deleted);
+    }
+    
+    // 전공 일괄 변경, 변경된 학생 수 반환
+    @PatchMapping("/major")
+    public ResponseEntity<Integer> changeMajor(@RequestBody StudentMajorChangeDto studentMajorChangeDto) {
+        int updated = studentService.changeMajor(studentMajorChangeDto);
+        return ResponseEntity.ok(updated);
+    }
 }
\ No newline at end of file
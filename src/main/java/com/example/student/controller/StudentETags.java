@@ -0,0 +1,39 @@
+package com.example.student.controller;
+
+/*
+학생 1명 응답의 ETag ("버전") 만들기/읽기
+If-Match는 강한 비교만 하므로 W/로 시작하는 값이나 버전이 아닌 값은 어떤 버전과도 맞지 않음
+ */
+final class StudentETags {
+    // 어떤 버전과도 맞지 않는 값 (버전은 0부터 시작)
+    private static final long NO_MATCH = -1L;
+    
+    private StudentETags() {
+    }
+    
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+    
+    // If-Match: * (버전은 상관없지만 학생이 있어야 함)
+    static boolean isAny(String ifMatch) {
+        return ifMatch != null && ifMatch.trim().equals("*");
+    }
+    
+    // If-Match 헤더 -> 기대하는 버전
+    // 헤더가 없거나 *이면 null (버전 확인 안 함, *의 존재 조건은 isAny로 따로 확인), ETag 하나만 지원
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || isAny(ifMatch)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return NO_MATCH;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return NO_MATCH;
+        }
+    }
+}
@@ -9,28 +9,47 @@ import lombok.AccessLevel;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Id;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "student")
+// 같은 (이름, 나이, 전공)은 한 번만 등록 가능, 이름 앞부분 검색도 이 인덱스를 탐
+// 검색용 인덱스: 전공(+나이 범위) (db/student.sql과 맞춤)
+@Table(name = "student", uniqueConstraints = @UniqueConstraint(
+        name = Student.UNIQUE_NAME_AGE_MAJOR, columnNames = {"student_name", "age", "major"}),
+        indexes = @Index(name = "idx_student_major_age", columnList = "major, age"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Student {
+    public static final String UNIQUE_NAME_AGE_MAJOR = "uk_student_name_age_major";
+    // 컬럼 크기 (db/student.sql의 VARCHAR(20)과 맞춤)
+    public static final int MAX_NAME_LENGTH = 20;
+    public static final int MAX_MAJOR_LENGTH = 20;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert마다 DB에서 PK를 받아와야 해서 JDBC 배치가 안 됨
+    // 샤드가 1개면 pooled 시퀀스(student_seq)로 50개씩 미리 할당
+    // 샤딩하면 샤드마다 시퀀스를 두면 학번이 겹치므로 앱에서 샤드 번호를 넣어 생성 (StudentIdGenerator)
+    @StudentId
     // PK는 int보단 Long 권장
     // 왜 int가 아닌 Long으로 써야 하는지 좀 더 깊은 이해 필요
     private Long studentId;     // 학번, PK
     
-    @Column(nullable = false)
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
     private String studentName; // 이름
     private int age;            // 나이
+    @Column(length = MAX_MAJOR_LENGTH)
     private String major;       // 전공
     
+    // 낙관적 잠금용 버전, 수정될 때마다 1씩 증가 (ETag로도 사용)
+    // 새로 만들 때는 null로 두면 저장하면서 0으로 채워짐
+    @Version
+    private Long version;
+    
     /*
     Setter 남용 방지, 캡슐화, 객체지향적 설계 등
     다양한 이유가 있지만 아직 이해를 못 했음
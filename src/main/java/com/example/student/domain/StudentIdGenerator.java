@@ -0,0 +1,98 @@
+package com.example.student.domain;
+
+import com.example.student.support.ShardRoutingDataSource;
+import com.example.student.support.SnowflakeIdGenerator;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.Configurable;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Properties;
+
+/*
+학번 생성 (@StudentId)
+- 샤드가 1개면 샤딩 전과 같은 pooled 시퀀스 (student_seq, 50개씩 미리 할당)
+  → 인스턴스가 여러 개여도 DB가 번호를 나눠 주므로 노드 번호가 필요 없음
+- 샤딩하면(student.id.sharded, ShardDataSourceConfig가 켬) insert 직전에 지금 스레드의 샤드 번호를 넣은 Snowflake 학번
+  → 샤드마다 시퀀스를 두면 학번이 겹치므로 앱에서 생성, DB를 거치지 않아서 JDBC 배치도 그대로
+  → 노드 번호(student.id.node-id = spring.jpa.properties.student.id.node-id)를 인스턴스마다 다르게 꼭 지정
+    (기본값을 두면 같은 값으로 뜬 두 인스턴스가 같은 ms에 같은 학번을 만듦, 없으면 시작 실패)
+- Hibernate가 스프링 빈으로 만들므로 기본 생성자 + configure로 설정을 받음
+ */
+public class StudentIdGenerator implements BeforeExecutionGenerator, Configurable, ExportableProducer {
+    public static final String NODE_ID_SETTING = "student.id.node-id";
+    public static final String SHARDED_SETTING = "student.id.sharded";
+    static final String SEQUENCE_NAME = "student_seq";
+    static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    
+    // 둘 중 하나만 사용
+    private SequenceStyleGenerator sequence;
+    private SnowflakeIdGenerator ids;
+    
+    @Override
+    public void create(GeneratorCreationContext context) {
+        sequence = new SequenceStyleGenerator();
+        sequence.create(context);
+    }
+    
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Map<String, Object> settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        if (Boolean.parseBoolean(String.valueOf(settings.get(SHARDED_SETTING)))) {
+            Object node = settings.get(NODE_ID_SETTING);
+            if (node == null || node.toString().isBlank()) {
+                throw new MappingException("샤딩하면 인스턴스마다 다른 학번 노드 번호가 필요합니다. spring.jpa.properties."
+                        + NODE_ID_SETTING + "를 0 ~ " + (SnowflakeIdGenerator.MAX_NODES - 1) + " 사이로 지정해 주세요.");
+            }
+            sequence = null;
+            ids = new SnowflakeIdGenerator(Integer.parseInt(node.toString().trim()));
+            return;
+        }
+        Properties sequenceParameters = new Properties();
+        sequenceParameters.putAll(parameters);
+        sequenceParameters.put(SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME);
+        sequenceParameters.put(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(SEQUENCE_ALLOCATION_SIZE));
+        sequence.configure(type, sequenceParameters, serviceRegistry);
+    }
+    
+    @Override
+    public void registerExportables(Database database) {
+        if (sequence != null) {
+            sequence.registerExportables(database);
+        }
+    }
+    
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        if (sequence != null) {
+            sequence.initialize(context);
+        }
+    }
+    
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        if (sequence != null) {
+            return sequence.generate(session, owner);
+        }
+        return ids.next(ShardRoutingDataSource.currentShard());
+    }
+    
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
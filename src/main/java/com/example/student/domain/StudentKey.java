@@ -0,0 +1,35 @@
+package com.example.student.domain;
+
+import com.example.student.dto.StudentDto;
+
+// 중복 판단 기준 (이름, 나이, 전공)
+public record StudentKey(String studentName, int age, String major) {
+    public static StudentKey of(StudentDto dto) {
+        return new StudentKey(dto.getStudentName(), dto.getAge(), dto.getMajor());
+    }
+    
+    // 블룸 필터용 64비트 해시 (FNV-1a + murmur3 fmix64)
+    public long hash64() {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, studentName);
+        h = (h ^ age) * 0x100000001b3L;
+        h = mix(h, major);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    private static long mix(long h, String value) {
+        if (value == null) {
+            return (h ^ 0xff) * 0x100000001b3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        // 필드 경계 구분
+        return (h ^ 0x1f) * 0x100000001b3L;
+    }
+}
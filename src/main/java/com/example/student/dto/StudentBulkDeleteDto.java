@@ -0,0 +1,19 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 학생 정보 일괄 삭제 요청
+// 학번 목록 또는 전공 중 하나만 지정
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBulkDeleteDto {
+    private List<Long> studentIds; // 삭제할 학번 목록
+    private String major;          // 이 전공 학생 전체 삭제
+}
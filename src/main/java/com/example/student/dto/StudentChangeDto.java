@@ -0,0 +1,14 @@
+package com.example.student.dto;
+
+import com.example.student.event.StudentChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 변경 피드(GET /students/changes)로 보내는 변경 내용
+@Getter
+@AllArgsConstructor
+public class StudentChangeDto {
+    private StudentChangedEvent.Type type; // CREATED, UPDATED, DELETED, BULK
+    private Long studentId;                // 바뀐 학번 (BULK면 null)
+    private StudentDto student;            // 변경 후 정보 (삭제, 일부 수정, BULK면 null → 필요하면 다시 조회)
+}
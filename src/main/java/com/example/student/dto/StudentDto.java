@@ -19,4 +19,5 @@ public class StudentDto {
     private String studentName; // 이름
     private int age;            // 나이
     private String major;       // 전공
+    private Long version;       // 버전 (응답에만 사용, ETag 값)
 }
@@ -0,0 +1,16 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// CSV 가져오기 결과 (이번 실행분, 체크포인트에서 이어서 했으면 그 뒤부터)
+@Getter
+@AllArgsConstructor
+public class StudentImportResultDto {
+    private long lines;          // 읽은 줄 수 (헤더, 빈 줄 포함)
+    private long imported;       // 저장한 학생 수
+    private long duplicates;     // 이미 있거나 파일 안에서 겹쳐서 건너뛴 수
+    private long rejected;       // 검증에 실패한 줄 수 (<파일>.rejected에 기록)
+    private long elapsedMillis;  // 걸린 시간
+    private long linesPerSecond; // 초당 처리한 줄 수
+}
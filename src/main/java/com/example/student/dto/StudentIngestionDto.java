@@ -0,0 +1,32 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기 등록 접수/처리 상태
+@Getter
+@AllArgsConstructor
+public class StudentIngestionDto {
+    public enum Status {
+        QUEUED, // 큐에서 저장 대기 중
+        SAVED,  // 저장 완료 (studentId 있음)
+        FAILED  // 저장 실패 (message에 이유)
+    }
+    
+    private String trackingId; // 접수 번호
+    private Status status;     // 처리 상태
+    private Long studentId;    // 저장된 학번
+    private String message;    // 실패 이유
+    
+    public static StudentIngestionDto queued(String trackingId) {
+        return new StudentIngestionDto(trackingId, Status.QUEUED, null, null);
+    }
+    
+    public static StudentIngestionDto saved(String trackingId, Long studentId) {
+        return new StudentIngestionDto(trackingId, Status.SAVED, studentId, null);
+    }
+    
+    public static StudentIngestionDto failed(String trackingId, String message) {
+        return new StudentIngestionDto(trackingId, Status.FAILED, null, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 전공 일괄 변경 요청
+// 대상은 학번 목록 또는 기존 전공 중 하나만 지정
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentMajorChangeDto {
+    private List<Long> studentIds; // 변경할 학번 목록
+    private String fromMajor;      // 이 전공 학생 전체 변경
+    private String toMajor;        // 바꿀 전공
+}
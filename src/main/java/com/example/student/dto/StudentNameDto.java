@@ -0,0 +1,12 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 이름 자동완성 결과 (학번 + 이름)
+@Getter
+@AllArgsConstructor
+public class StudentNameDto {
+    private Long studentId;     // 학번
+    private String studentName; // 이름
+}
@@ -0,0 +1,13 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StudentPageDto {
+    private List<StudentDto> students; // 현재 페이지의 학생 목록
+    private Long nextCursor;           // 다음 페이지 요청 시 afterId로 사용, 마지막 페이지면 null
+}
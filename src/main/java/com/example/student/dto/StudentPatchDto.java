@@ -0,0 +1,18 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 학생 정보 일부 수정 (PATCH) 요청
+// null인 필드는 수정하지 않음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentPatchDto {
+    private String studentName; // 이름
+    private Integer age;        // 나이
+    private String major;       // 전공
+}
@@ -0,0 +1,19 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 학생 검색 조건
+// null(이름은 빈 문자열 포함)인 조건은 적용하지 않음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentSearchCondition {
+    private String major;       // 전공 (일치)
+    private Integer minAge;     // 최소 나이 (포함)
+    private Integer maxAge;     // 최대 나이 (포함)
+    private String namePrefix;  // 이름 앞부분
+}
@@ -0,0 +1,15 @@
+package com.example.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 학생 통계 (전체 수, 전공별 수, 나이별 수)
+@Getter
+@AllArgsConstructor
+public class StudentStatsDto {
+    private long total;                    // 전체 학생 수
+    private Map<String, Long> countByMajor; // 전공 -> 학생 수 (전공 이름 순)
+    private Map<Integer, Long> countByAge;  // 나이 -> 학생 수 (나이 순, 0명인 나이는 생략)
+}
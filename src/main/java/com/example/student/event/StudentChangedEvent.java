@@ -0,0 +1,30 @@
+package com.example.student.event;
+
+import com.example.student.dto.StudentDto;
+
+// 학생 정보 변경 이벤트
+// StudentService가 발행하고, 메모리에 들고 있는 부가 자료구조들이 커밋 이후에 받아서 갱신
+// before: 변경 전 정보 (등록이면 null, 한 문장으로 수정/삭제해서 모르는 경우도 null)
+// after: 변경 후 정보 (삭제면 null, 일부 필드만 수정해서 모르는 경우도 null)
+// BULK: 일괄 수정/삭제로 여러 학생이 한 번에 바뀜 (어떤 학생인지는 모름, 필요하면 DB에서 다시 읽어야 함)
+public record StudentChangedEvent(Type type, Long studentId, StudentDto before, StudentDto after) {
+    public enum Type {
+        CREATED, UPDATED, DELETED, BULK
+    }
+    
+    public static StudentChangedEvent created(StudentDto after) {
+        return new StudentChangedEvent(Type.CREATED, after.getStudentId(), null, after);
+    }
+    
+    public static StudentChangedEvent updated(Long studentId, StudentDto before, StudentDto after) {
+        return new StudentChangedEvent(Type.UPDATED, studentId, before, after);
+    }
+    
+    public static StudentChangedEvent deleted(Long studentId, StudentDto before) {
+        return new StudentChangedEvent(Type.DELETED, studentId, before, null);
+    }
+    
+    public static StudentChangedEvent bulk() {
+        return new StudentChangedEvent(Type.BULK, null, null, null);
+    }
+}
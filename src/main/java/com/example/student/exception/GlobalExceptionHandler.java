@@ -0,0 +1,75 @@
+package com.example.student.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    // 예외 결과별 카운터 (students.errors)
+    private final Counter notFoundCounter;
+    private final Counter duplicateCounter;
+    private final Counter versionMismatchCounter;
+    private final Counter ingestionRejectedCounter;
+    
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.notFoundCounter = Counter.builder("students.errors")
+                .tag("type", "not_found")
+                .description("존재하지 않는 학생 요청 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("students.errors")
+                .tag("type", "duplicate")
+                .description("중복 등록 요청 수")
+                .register(meterRegistry);
+        this.versionMismatchCounter = Counter.builder("students.errors")
+                .tag("type", "version_mismatch")
+                .description("If-Match 버전이 달라 거절된 수정/삭제 요청 수")
+                .register(meterRegistry);
+        this.ingestionRejectedCounter = Counter.builder("students.errors")
+                .tag("type", "ingestion_rejected")
+                .description("비동기 등록 큐가 가득 차서 거절된 요청 수")
+                .register(meterRegistry);
+    }
+    
+    // 존재하지 않는 학생 -> 404
+    @ExceptionHandler({EntityNotFoundException.class, StudentNotFoundException.class})
+    public ResponseEntity<String> handleNotFound(RuntimeException e) {
+        notFoundCounter.increment();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+    
+    // 중복 등록 -> 400
+    @ExceptionHandler(DuplicateStudentException.class)
+    public ResponseEntity<String> handleDuplicate(DuplicateStudentException e) {
+        duplicateCounter.increment();
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    
+    // If-Match 버전 불일치 -> 412
+    @ExceptionHandler(StudentVersionMismatchException.class)
+    public ResponseEntity<String> handleVersionMismatch(StudentVersionMismatchException e) {
+        versionMismatchCounter.increment();
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+    }
+    
+    // 비동기 등록 큐가 가득 참 -> 429, 1초 뒤 재시도
+    @ExceptionHandler(StudentIngestionRejectedException.class)
+    public ResponseEntity<String> handleIngestionRejected(StudentIngestionRejectedException e) {
+        ingestionRejectedCounter.increment();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+    
+    // 잘못된 요청 값 -> 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.student.exception;
+
+public class StudentIngestionRejectedException extends RuntimeException {
+    // 비동기 등록 큐가 가득 찼거나 종료 중이라 접수하지 못함
+    public StudentIngestionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.student.exception;
+
+public class StudentVersionMismatchException extends RuntimeException {
+    // If-Match로 보낸 버전과 현재 버전이 다름 (그 사이에 다른 요청이 수정함)
+    public StudentVersionMismatchException(String message) {
+        super(message);
+    }
+}
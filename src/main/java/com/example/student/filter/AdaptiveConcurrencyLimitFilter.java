@@ -0,0 +1,141 @@
+package com.example.student.filter;
+
+import com.example.student.support.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+학생 API 동시 처리 한도 필터 (AdaptiveConcurrencyLimit)
+DB가 느려지면 응답 시간이 늘어나는 걸 보고 한도를 줄여서, 넘치는 요청은 쌓아 두지 않고 바로 거절
+- 읽기(GET, HEAD, OPTIONS)와 쓰기의 한도를 따로 둠 → 쓰기가 느려져도 읽기는 계속 처리
+- 거절: 한도가 최대치면 429 (요청 자체가 많음), 줄어든 상태면 503 (서버가 느림), 둘 다 Retry-After
+- 5xx 응답이나 예외는 실패로 보고 한도를 줄임
+- 비동기 응답(내보내기 등)은 끝날 때 허가를 반납하고 응답 시간은 반영하지 않음
+- 원래 오래 걸리는 요청(전체 목록, 검색, 일괄 처리 등, unsampled)은 한도는 쓰되 응답 시간은 반영하지 않음
+  → 같은 한도를 쓰는 빠른 요청의 평소 응답 시간이 무거운 요청 때문에 흔들리지 않도록 (실패는 그대로 반영)
+- 변경 피드처럼 DB를 쓰지 않고 오래 열려 있는 경로는 제외 (excludedPaths)
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+    
+    private final Budget read;
+    private final Budget write;
+    private final Set<String> excludedPaths;
+    private final Predicate<HttpServletRequest> unsampled;
+    
+    public AdaptiveConcurrencyLimitFilter(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                          Set<String> excludedPaths, Predicate<HttpServletRequest> unsampled,
+                                          MeterRegistry meterRegistry) {
+        this.read = new Budget("read", readLimit, meterRegistry);
+        this.write = new Budget("write", writeLimit, meterRegistry);
+        this.excludedPaths = excludedPaths;
+        this.unsampled = unsampled;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(path(request));
+    }
+    
+    // 컨텍스트 경로를 뺀 요청 경로
+    public static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Budget budget = READ_METHODS.contains(request.getMethod()) ? read : write;
+        Optional<AdaptiveConcurrencyLimit.Permit> acquired = budget.limit.tryAcquire();
+        if (acquired.isEmpty()) {
+            budget.rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            if (budget.limit.isAtMaxLimit()) {
+                response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            } else {
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 잠시 후 다시 시도해 주세요.");
+            }
+            return;
+        }
+        
+        AdaptiveConcurrencyLimit.Permit permit = acquired.get();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (failed) {
+                permit.dropped();
+            } else if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new IgnoreOnComplete(permit));
+            } else if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                permit.dropped();
+            } else if (unsampled.test(request)) {
+                permit.ignore();
+            } else {
+                permit.success();
+            }
+        }
+    }
+    
+    // 읽기/쓰기 한도 하나와 메트릭
+    private static final class Budget {
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter rejected;
+        
+        private Budget(String type, AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry) {
+            this.limit = limit;
+            Gauge.builder("students.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("type", type)
+                    .description("지금 동시 처리 한도")
+                    .register(meterRegistry);
+            Gauge.builder("students.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                    .tag("type", type)
+                    .description("처리 중인 요청 수")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("students.concurrency.rejected")
+                    .tag("type", type)
+                    .description("한도를 넘어서 거절한 요청 수")
+                    .register(meterRegistry);
+        }
+    }
+    
+    private record IgnoreOnComplete(AdaptiveConcurrencyLimit.Permit permit) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.ignore();
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.ignore();
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.ignore();
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
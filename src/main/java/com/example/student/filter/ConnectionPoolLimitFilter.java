@@ -0,0 +1,113 @@
+package com.example.student.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+커넥션 풀 크기만큼만 동시에 요청을 처리하는 필터 (가상 스레드 모드용)
+가상 스레드는 요청마다 바로 생기므로 그대로 두면 전부 커넥션 대기로 쌓임
+- 풀 크기만큼 세마포어 허가를 두고, 허가를 못 받으면 acquireTimeout 동안만 대기
+- 그래도 못 받으면 503 + Retry-After로 바로 거절
+- 비동기 응답(내보내기 등)은 응답이 끝날 때 허가를 반납
+- 변경 피드처럼 DB를 쓰지 않고 오래 열려 있는 경로는 제외 (excludedPaths)
+ */
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+    private final Set<String> excludedPaths;
+    
+    public ConnectionPoolLimitFilter(int maxConcurrent, Duration acquireTimeout, Set<String> excludedPaths,
+                                     MeterRegistry meterRegistry) {
+        this.excludedPaths = excludedPaths;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        Gauge.builder("students.pool.limiter.available", permits, Semaphore::availablePermits)
+                .description("남은 동시 처리 허가 수")
+                .register(meterRegistry);
+        Gauge.builder("students.pool.limiter.queued", permits, Semaphore::getQueueLength)
+                .description("허가를 기다리는 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("students.pool.limiter.rejected")
+                .description("허가를 못 받아 거절한 요청 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+    
+    private record ReleaseOnComplete(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
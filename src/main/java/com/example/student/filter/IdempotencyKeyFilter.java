@@ -0,0 +1,255 @@
+package com.example.student.filter;
+
+import com.example.student.support.IdempotencyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+쓰기 요청(POST, PUT, PATCH, DELETE)의 Idempotency-Key 처리
+- 헤더가 있으면 처음 요청만 컨트롤러까지 가고, 응답(상태, 헤더, 본문)을 저장해 두었다가
+  같은 키로 다시 오면 DB를 거치지 않고 저장된 응답을 그대로 보냄 (Idempotent-Replayed: true)
+- 처음 요청이 처리 중일 때 같은 키로 오면 끝날 때까지 기다렸다가 같은 응답을 받음
+  (대기 시간을 넘으면 409 + Retry-After)
+- 같은 키로 다른 요청(메서드, 경로, 본문이 다름)이 오면 422
+- 5xx, 429, Retry-After가 붙은 응답(과부하로 거절 등)이나 예외로 끝난 응답은 저장하지 않음
+  → 다시 시도하면 새로 처리
+- 헤더가 없는 요청은 그대로 통과
+- 인스턴스 메모리에만 보관 (여러 대로 띄우면 같은 키가 같은 인스턴스로 가야 함)
+ */
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    // 키 최대 길이 (UUID 등)
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    
+    private final IdempotencyStore<StoredResponse> store;
+    private final Counter first;
+    private final Counter replayed;
+    private final Counter conflict;
+    private final Counter mismatch;
+    
+    public IdempotencyKeyFilter(IdempotencyStore<StoredResponse> store, MeterRegistry meterRegistry) {
+        this.store = store;
+        Gauge.builder("students.idempotency.keys", store, IdempotencyStore::size)
+                .description("보관 중인 Idempotency-Key 수")
+                .register(meterRegistry);
+        this.first = counter(meterRegistry, "first", "처음 처리한 요청 수");
+        this.replayed = counter(meterRegistry, "replayed", "저장된 응답을 다시 보낸 요청 수");
+        this.conflict = counter(meterRegistry, "conflict", "처리 중인 키를 기다리다 409로 거절한 요청 수");
+        this.mismatch = counter(meterRegistry, "mismatch", "같은 키로 다른 요청이 와서 422로 거절한 요청 수");
+    }
+    
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("students.idempotency.requests")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(),
+                    "Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+        // 본문을 미리 읽어서 요청 식별값에 포함 (컨트롤러는 읽어 둔 본문을 다시 읽음)
+        BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request);
+        IdempotencyStore.Claim<StoredResponse> claim;
+        try {
+            claim = store.claim(key, fingerprint(bufferedRequest));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청 처리가 중단되었습니다.");
+            return;
+        }
+        switch (claim.status()) {
+            case REPLAY -> {
+                replayed.increment();
+                claim.value().writeTo(response);
+            }
+            case IN_PROGRESS -> {
+                conflict.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpStatus.CONFLICT.value(), "같은 Idempotency-Key 요청을 처리 중입니다.");
+            }
+            case MISMATCH -> {
+                mismatch.increment();
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+            case OWNER -> {
+                first.increment();
+                process(bufferedRequest, response, chain, claim);
+            }
+        }
+    }
+    
+    // 처음 요청 처리, 응답을 모아서 저장한 뒤 실제 응답으로 보냄
+    private void process(BufferedBodyRequest request, HttpServletResponse response, FilterChain chain,
+                         IdempotencyStore.Claim<StoredResponse> claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, responseWrapper);
+            // 쓰기 API는 모두 동기 응답, 비동기로 넘어가면 결과를 알 수 없으므로 저장하지 않음
+            if (!request.isAsyncStarted() && !isRetryable(responseWrapper)) {
+                claim.complete(StoredResponse.of(responseWrapper));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                claim.abandon();
+            }
+            if (!request.isAsyncStarted()) {
+                responseWrapper.copyBodyToResponse();
+            }
+        }
+    }
+    
+    // 처리하지 않았거나 다시 보내라는 응답 (저장하면 재시도해도 같은 거절만 받음)
+    private static boolean isRetryable(HttpServletResponse response) {
+        return response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()
+                || response.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || response.getHeader(HttpHeaders.RETRY_AFTER) != null;
+    }
+    
+    // 메서드 + 경로(쿼리 포함) + 본문 SHA-256
+    private static String fingerprint(BufferedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String target = request.getMethod() + " " + request.getRequestURI()
+                    + "?" + Objects.toString(request.getQueryString(), "") + "\n";
+            digest.update(target.getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    // 저장해 둔 응답 (상태, 헤더, 본문)
+    public static final class StoredResponse {
+        private final int status;
+        private final String contentType;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+        
+        private StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+        }
+        
+        private static StoredResponse of(ContentCachingResponseWrapper response) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : response.getHeaderNames()) {
+                // 본문 형식과 길이는 따로 설정
+                if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                    continue;
+                }
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+            return new StoredResponse(response.getStatus(), response.getContentType(), headers,
+                    response.getContentAsByteArray());
+        }
+        
+        private void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            // sendError로 끝난 응답(본문은 오류 페이지에서 만듦)은 다시 sendError로
+            if (status >= 400 && body.length == 0) {
+                response.sendError(status);
+                return;
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+    
+    // 본문을 미리 다 읽어 두고 getInputStream마다 처음부터 다시 읽게 하는 요청
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+        
+        private BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+                
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+                
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                // 본문은 이미 메모리에 있으므로 바로 다 읽을 수 있다고 알림
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.example.student.repository;
 
 import com.example.student.domain.Student;
+import com.example.student.domain.StudentKey;
+import com.example.student.dto.StudentDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentSearchRepository {
     /*
     이거 코드 적게 써도 되는 건지 모르겠다.
     왜 삶의 질이 올라간다고 한지 알 것 같다.
@@ -13,5 +28,98 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     
     // 중복 등록 방지
+    // (student_name, age, major) 유니크 인덱스를 탐
     boolean existsByStudentNameAndAgeAndMajor(String studentName, int age, String major);
+    
+    // 일괄 등록 중복 검사용
+    // 이름 목록으로 한 번에 조회하고 (이름, 나이, 전공) 비교는 메모리에서 처리
+    @Query("select new com.example.student.domain.StudentKey(s.studentName, s.age, s.major) "
+            + "from Student s where s.studentName in :names")
+    List<StudentKey> findKeysByStudentNameIn(@Param("names") Collection<String> names);
+    
+    /*
+    조회 전용 DTO 프로젝션
+    엔티티를 만들지 않고 select new로 바로 StudentDto를 만듦
+    영속성 컨텍스트에 올라가지 않으니 변경 감지용 스냅샷도 생기지 않음
+     */
+    
+    // 학생 1명 조회
+    @Query("select new com.example.student.dto.StudentDto(s.studentId, s.studentName, s.age, s.major, s.version) "
+            + "from Student s where s.studentId = :studentId")
+    Optional<StudentDto> findDtoById(@Param("studentId") Long studentId);
+    
+    // 학번 기준 커서(keyset) 페이지 조회
+    // OFFSET 없이 PK 인덱스로 afterId 다음부터 limit 건만 읽음
+    @Query("select new com.example.student.dto.StudentDto(s.studentId, s.studentName, s.age, s.major, s.version) "
+            + "from Student s where s.studentId > :afterId order by s.studentId")
+    List<StudentDto> findDtosAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    // 전체 조회
+    @Query("select new com.example.student.dto.StudentDto(s.studentId, s.studentName, s.age, s.major, s.version) "
+            + "from Student s order by s.studentId")
+    List<StudentDto> findAllDtos();
+    
+    // 전체 내보내기용 스트림 조회
+    // 결과를 한 번에 List로 받지 않고 fetch size 단위로 커서에서 읽어옴
+    // 트랜잭션 안에서 사용하고 반드시 close 해야 함
+    @Query("select new com.example.student.dto.StudentDto(s.studentId, s.studentName, s.age, s.major, s.version) "
+            + "from Student s order by s.studentId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<StudentDto> streamAllDtos();
+    
+    // 중복 검사 블룸 필터 워밍업용 스트림 조회
+    @Query("select new com.example.student.domain.StudentKey(s.studentName, s.age, s.major) from Student s")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<StudentKey> streamAllKeys();
+    
+    /*
+    조회 없이 한 문장으로 수정/삭제
+    반환값은 영향받은 행 수 (0이면 없는 학생, 또는 버전이 다름)
+    실행 전 쓰기 지연된 변경은 flush, 실행 후 영속성 컨텍스트는 비움
+    JPQL update는 @Version을 자동으로 올리지 않으므로 직접 1 증가
+    version이 null이면 버전 확인 없이 수정/삭제
+     */
+    
+    // 학생 정보 수정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.studentName = :studentName, s.age = :age, s.major = :major, "
+            + "s.version = s.version + 1 "
+            + "where s.studentId = :studentId and (:version is null or s.version = :version)")
+    int updateStudentById(@Param("studentId") Long studentId, @Param("studentName") String studentName,
+                          @Param("age") int age, @Param("major") String major, @Param("version") Long version);
+    
+    // 학생 정보 일부 수정, null인 값은 기존 값 유지
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.studentName = coalesce(:studentName, s.studentName), "
+            + "s.age = coalesce(:age, s.age), s.major = coalesce(:major, s.major), "
+            + "s.version = s.version + 1 "
+            + "where s.studentId = :studentId")
+    int patchStudentById(@Param("studentId") Long studentId, @Param("studentName") String studentName,
+                         @Param("age") Integer age, @Param("major") String major);
+    
+    // 학생 정보 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Student s where s.studentId = :studentId and (:version is null or s.version = :version)")
+    int deleteStudentById(@Param("studentId") Long studentId, @Param("version") Long version);
+    
+    /*
+    일괄 수정/삭제 (set 기반 한 문장)
+    학번 목록은 IN 절 크기 제한 때문에 호출하는 쪽에서 나눠서 호출
+     */
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Student s where s.studentId in :studentIds")
+    int deleteByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Student s where s.major = :major")
+    int deleteByMajor(@Param("major") String major);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.major = :toMajor, s.version = s.version + 1 where s.studentId in :studentIds")
+    int updateMajorByStudentIdIn(@Param("studentIds") Collection<Long> studentIds, @Param("toMajor") String toMajor);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Student s set s.major = :toMajor, s.version = s.version + 1 where s.major = :fromMajor")
+    int updateMajorByMajor(@Param("fromMajor") String fromMajor, @Param("toMajor") String toMajor);
 }
\ No newline at end of file
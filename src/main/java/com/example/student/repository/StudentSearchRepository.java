@@ -0,0 +1,13 @@
+package com.example.student.repository;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentSearchCondition;
+
+import java.util.List;
+
+// 조건이 그때그때 달라지는 검색 (StudentRepository에 붙는 커스텀 구현)
+public interface StudentSearchRepository {
+    
+    // 조건에 맞는 학생을 afterId 다음 학번부터 학번 순으로 limit 건 조회 (afterId가 null이면 처음부터)
+    List<StudentDto> search(StudentSearchCondition condition, Long afterId, int limit);
+}
@@ -0,0 +1,75 @@
+package com.example.student.repository;
+
+import com.example.student.domain.Student;
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+검색 조건을 Criteria로 조립
+- 들어온 조건만 where에 넣어야 인덱스를 탐
+  (전공/나이: idx_student_major_age, 이름 앞부분: uk_student_name_age_major)
+- 나이만 있으면 PK 순서로 읽다가 limit 건이 차면 끝남
+- 이름은 'prefix%' 형태의 LIKE만 사용 (앞에 %가 붙으면 인덱스를 못 탐)
+- 엔티티 대신 DTO 생성자 프로젝션으로 조회
+ */
+@RequiredArgsConstructor
+public class StudentSearchRepositoryImpl implements StudentSearchRepository {
+    private static final char LIKE_ESCAPE = '\\';
+    
+    private final EntityManager entityManager;
+    
+    @Override
+    public List<StudentDto> search(StudentSearchCondition condition, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentDto> query = cb.createQuery(StudentDto.class);
+        Root<Student> s = query.from(Student.class);
+        
+        List<Predicate> where = new ArrayList<>();
+        // 첫 페이지는 학번 조건을 빼야 옵티마이저가 PK 대신 검색 조건 인덱스를 고름
+        if (afterId != null) {
+            where.add(cb.greaterThan(s.get("studentId"), afterId));
+        }
+        if (condition.getMajor() != null) {
+            where.add(cb.equal(s.get("major"), condition.getMajor()));
+        }
+        if (condition.getMinAge() != null) {
+            where.add(cb.greaterThanOrEqualTo(s.get("age"), condition.getMinAge()));
+        }
+        if (condition.getMaxAge() != null) {
+            where.add(cb.lessThanOrEqualTo(s.get("age"), condition.getMaxAge()));
+        }
+        if (condition.getNamePrefix() != null && !condition.getNamePrefix().isEmpty()) {
+            where.add(cb.like(s.get("studentName"), escapeLike(condition.getNamePrefix()) + "%", LIKE_ESCAPE));
+        }
+        
+        query.select(cb.construct(StudentDto.class,
+                        s.get("studentId"), s.get("studentName"), s.get("age"), s.get("major"), s.get("version")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(s.get("studentId")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    // 이름에 들어간 %, _ 는 와일드카드가 아닌 문자로 취급
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.student.service;
+
+import com.example.student.config.CacheConfig;
+import com.example.student.event.StudentChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+학생 1명 조회 캐시에 오래된 값이 남지 않도록 막음
+캐시 미스 조회가 수정/삭제 커밋 전에 DB를 읽고, @CacheEvict가 끝난 뒤에 캐시에 넣으면
+이전 값이 TTL까지 남음 (single-flight로 같이 기다린 요청도 같은 값을 받음)
+- 커밋 이후 학번 구역의 세대를 올리고 캐시에서 제거
+- 조회하는 쪽은 조회 전에 세대를 읽어 두고, 캐시에 넣은 뒤 세대가 바뀌었으면 다시 제거
+  → 세대 증가 → 제거 순서라서 어느 쪽이 먼저 끝나도 오래된 값이 남지 않음
+- 학번을 구역으로 나눠서 세대를 셈 (같은 구역의 다른 학생 변경은 한 번 더 제거할 뿐)
+ */
+@Component
+public class StudentCacheInvalidator {
+    private static final int STRIPES = 1024;
+    
+    private final CacheManager cacheManager;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    
+    public StudentCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+    
+    // 조회 전에 읽어 두는 값
+    public long generation(Long studentId) {
+        return generations.get(stripe(studentId));
+    }
+    
+    // 조회(캐시에 넣기)가 끝난 뒤 호출, 그 사이에 바뀌었으면 캐시에서 제거
+    public void evictIfChanged(Long studentId, long generation) {
+        if (generations.get(stripe(studentId)) != generation) {
+            evict(studentId);
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.type() == StudentChangedEvent.Type.BULK) {
+            for (int i = 0; i < STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            Cache cache = cacheManager.getCache(CacheConfig.STUDENT_CACHE);
+            if (cache != null) {
+                cache.clear();
+            }
+            return;
+        }
+        generations.incrementAndGet(stripe(event.studentId()));
+        evict(event.studentId());
+    }
+    
+    private void evict(Long studentId) {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_CACHE);
+        if (cache != null) {
+            cache.evict(studentId);
+        }
+    }
+    
+    private static int stripe(Long studentId) {
+        return Math.floorMod(Long.hashCode(studentId), STRIPES);
+    }
+}
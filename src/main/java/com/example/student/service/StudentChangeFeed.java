@@ -0,0 +1,216 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentChangeDto;
+import com.example.student.event.StudentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+학생 변경 피드 (GET /students/changes, Server-Sent Events)
+- 커밋된 등록/수정/삭제에 순번을 붙여 크기가 정해진 링 버퍼에 보관
+- 구독자마다 크기가 정해진 큐를 두고, 커밋한 스레드는 큐에 넣기만 함 (전송은 구독자별 가상 스레드)
+- 큐가 가득 찬 느린 구독자는 끊음 → 느린 구독자 때문에 쓰기가 멈추지 않음
+- 다시 연결할 때 Last-Event-ID를 주면 링 버퍼에 남아 있는 그 다음 변경부터 이어서 보냄
+  링 버퍼에서 이미 밀려났거나 재시작 전 ID면 reset 이벤트를 먼저 보냄 (목록을 다시 조회해야 함)
+- 이벤트 ID는 "시작 시각-순번" (재시작 전 ID와 겹치지 않게)
+ */
+@Component
+public class StudentChangeFeed implements DisposableBean {
+    public static final String RESET_EVENT = "reset";
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final StudentChangeDto[] buffer;
+    private final int subscriberQueueSize;
+    private final long heartbeatNanos;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    // 마지막으로 붙인 순번 (this로 보호, 링 버퍼 위치는 순번 % 크기)
+    private long lastSequence;
+    
+    public StudentChangeFeed(MeterRegistry meterRegistry,
+                             @Value("${student.changes.buffer-size:1000}") int bufferSize,
+                             @Value("${student.changes.subscriber-queue-size:256}") int subscriberQueueSize,
+                             @Value("${student.changes.heartbeat-interval:15s}") Duration heartbeatInterval,
+                             @Value("${student.changes.timeout:30m}") Duration timeout) {
+        this.buffer = new StudentChangeDto[bufferSize];
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("students.changes.subscribers", subscribers, Set::size)
+                .description("변경 피드 구독자 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("students.changes.dropped")
+                .description("느려서 끊은 변경 피드 구독자 수")
+                .register(meterRegistry);
+    }
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        publish(new StudentChangeDto(event.type(), event.studentId(), event.after()));
+    }
+    
+    // 구독 (lastEventId: 다시 연결할 때 받은 Last-Event-ID, 처음이면 null)
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMillis));
+    }
+    
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber;
+        // 밀린 변경을 꺼내는 것과 구독자 등록을 같은 잠금 안에서 해서 빠지거나 겹치는 변경이 없게 함
+        synchronized (this) {
+            long resumeFrom = resumeFrom(lastEventId);
+            long oldest = Math.max(1, lastSequence - buffer.length + 1);
+            List<Change> pending = new ArrayList<>();
+            if (resumeFrom != -1 && resumeFrom < oldest) {
+                pending.add(new Change(lastSequence, null));
+            } else if (resumeFrom != -1) {
+                for (long sequence = resumeFrom; sequence <= lastSequence; sequence++) {
+                    pending.add(new Change(sequence, buffer[(int) (sequence % buffer.length)]));
+                }
+            }
+            subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(subscriberQueueSize), pending);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscriber.sender = Thread.ofVirtual().name("student-changes").start(() -> send(subscriber));
+        return emitter;
+    }
+    
+    // 지금 구독 중인 수
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    @Override
+    public void destroy() {
+        subscribers.forEach(this::close);
+    }
+    
+    private synchronized void publish(StudentChangeDto change) {
+        long sequence = ++lastSequence;
+        buffer[(int) (sequence % buffer.length)] = change;
+        Change event = new Change(sequence, change);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                dropped.increment();
+                close(subscriber);
+            }
+        }
+    }
+    
+    // 이어서 보낼 첫 순번, 처음 구독이면 -1, 알 수 없는 ID면 0 (reset)
+    private long resumeFrom(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return 0;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.substring(dash + 1));
+            return sequence >= 0 && sequence <= lastSequence ? sequence + 1 : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    // 구독자별 가상 스레드에서 실행
+    // 보낼 게 없으면 heartbeat마다 주석을 보내서 끊긴 연결을 알아냄
+    private void send(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            for (Change change : subscriber.pending) {
+                emitter.send(toEvent(change));
+            }
+            while (!subscriber.closed) {
+                Change change = subscriber.queue.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                emitter.send(change != null ? toEvent(change) : SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (InterruptedException e) {
+            // 느려서 끊겼거나 종료 중, 아래에서 응답 마무리
+        } catch (IOException e) {
+            // 클라이언트가 끊었거나, 느려서 끊으려고 보내는 중에 깨움
+            close(subscriber);
+            try {
+                emitter.completeWithError(e);
+            } catch (IllegalStateException alreadyCompleted) {
+                // 이미 완료됨
+            }
+            return;
+        } catch (IllegalStateException e) {
+            // 시간 초과 등으로 이미 완료된 응답
+            close(subscriber);
+            return;
+        }
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // 시간 초과 등으로 이미 완료됨
+        }
+    }
+    
+    // 쓰기 스레드에서도 부르므로 응답에 직접 손대지 않음 (emitter는 send 중에 잠겨 있을 수 있음)
+    // 전송 스레드를 깨워서 전송 스레드가 응답을 마무리
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        Thread sender = subscriber.sender;
+        if (sender != null && sender != Thread.currentThread()) {
+            sender.interrupt();
+        }
+    }
+    
+    // 이벤트는 보낼 때마다 새로 만듦 (SseEventBuilder는 build할 때 내용이 바뀌어서 구독자끼리 공유 불가)
+    private SseEmitter.SseEventBuilder toEvent(Change change) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().id(eventId(change.sequence()));
+        if (change.change() == null) {
+            return event.name(RESET_EVENT).data("");
+        }
+        return event.name(change.change().getType().name().toLowerCase()).data(change.change());
+    }
+    
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+    
+    // 순번과 변경 내용 (change가 null이면 reset)
+    private record Change(long sequence, StudentChangeDto change) {
+    }
+    
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Change> queue;
+        // 구독 시점에 먼저 보낼 것 (reset, 밀린 변경)
+        private final List<Change> pending;
+        private volatile boolean closed;
+        private volatile Thread sender;
+        
+        private Subscriber(SseEmitter emitter,
+                           BlockingQueue<Change> queue,
+                           List<Change> pending) {
+            this.emitter = emitter;
+            this.queue = queue;
+            this.pending = pending;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.student.service;
+
+import com.example.student.domain.Student;
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentImportResultDto;
+import com.example.student.exception.DuplicateStudentException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+CSV 파일로 학생 일괄 가져오기 (학적 시스템에서 받은 수백만 줄 파일용)
+- 형식: 이름,나이,전공 (첫 줄이 헤더면 건너뜀, 큰따옴표 필드와 "" 이스케이프 지원, 필드 안 줄바꿈은 지원 안 함)
+- 파일을 windowSize 단위로 메모리 매핑해서 바이트를 직접 파싱 (줄 String, split 없이 필드만 String으로)
+  → 파일 크기와 상관없이 힙에는 배치 하나 분량만 올라감
+- 검증에 실패한 줄은 줄 번호, 이유와 함께 <파일>.rejected에 기록하고 계속 진행
+- (이름, 나이, 전공) 중복은 파일 안에서든 DB와든 건너뜀
+- batchSize 줄씩 한 트랜잭션에 JDBC 배치로 저장하고, 커밋할 때마다 다음 위치를 <파일>.checkpoint에 기록
+  → 중간에 멈춰도 다시 실행하면 체크포인트부터 이어서 가져옴 (처음부터 다시 하려면 체크포인트 파일 삭제)
+ */
+@Slf4j
+@Component
+public class StudentCsvImporter {
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    public static final String REJECTED_SUFFIX = ".rejected";
+    // 이름, 나이, 전공
+    private static final int FIELD_COUNT = 3;
+    // student_name, major 컬럼 크기 (VARCHAR(20))
+    private static final int MAX_NAME_LENGTH = Student.MAX_NAME_LENGTH;
+    private static final int MAX_MAJOR_LENGTH = Student.MAX_MAJOR_LENGTH;
+    // 로그로도 남길 거절 줄 수 (나머지는 파일에만)
+    private static final int MAX_REJECT_LOGS = 100;
+    // 진행 상황 로그 간격 (배치 수)
+    private static final int PROGRESS_LOG_BATCHES = 100;
+    
+    private final StudentService studentService;
+    private final int batchSize;
+    private final int windowSize;
+    
+    public StudentCsvImporter(StudentService studentService,
+                              @Value("${student.import.batch-size:1000}") int batchSize,
+                              @Value("${student.import.window-size:64MB}") DataSize windowSize) {
+        if (batchSize < 1 || batchSize > StudentService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch-size는 1 ~ " + StudentService.MAX_BATCH_SIZE + " 사이여야 합니다.");
+        }
+        this.studentService = studentService;
+        this.batchSize = batchSize;
+        // MappedByteBuffer 하나는 2GB까지
+        this.windowSize = (int) Math.min(windowSize.toBytes(), Integer.MAX_VALUE);
+    }
+    
+    // 파일 가져오기 (체크포인트가 있으면 그 위치부터)
+    public StudentImportResultDto importFile(Path file) throws IOException {
+        Path checkpointFile = file.resolveSibling(file.getFileName() + CHECKPOINT_SUFFIX);
+        Path rejectedFile = file.resolveSibling(file.getFileName() + REJECTED_SUFFIX);
+        long[] checkpoint = readCheckpoint(checkpointFile);
+        if (checkpoint[0] > 0) {
+            log.info("학생 가져오기 체크포인트에서 이어서 시작: {} ({}바이트, {}줄 다음부터)", file, checkpoint[0], checkpoint[1]);
+        }
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             BufferedWriter rejectedWriter = Files.newBufferedWriter(rejectedFile, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            Run run = new Run(checkpointFile, rejectedWriter, checkpoint[1]);
+            long size = channel.size();
+            long position = checkpoint[0];
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int lineStart = 0;
+                for (int i = 0; i < length; i++) {
+                    if (window.get(i) == '\n') {
+                        run.line(window, lineStart, i, position + i + 1);
+                        lineStart = i + 1;
+                    }
+                }
+                // 마지막 줄에 줄바꿈이 없는 경우
+                if (last && lineStart < length) {
+                    run.line(window, lineStart, length, size);
+                    lineStart = length;
+                }
+                // 줄 끝을 못 찾은 나머지는 다음 매핑에서 다시 읽음
+                if (lineStart == 0) {
+                    throw new IOException("한 줄이 매핑 단위(" + windowSize + "바이트)보다 깁니다. 줄 번호=" + (run.lineNumber + 1));
+                }
+                position += lineStart;
+            }
+            run.flush(size);
+            StudentImportResultDto result = run.result();
+            log.info("학생 가져오기 완료: {}줄, 저장 {}, 중복 {}, 거절 {}, {}ms ({}줄/초)", result.getLines(),
+                    result.getImported(), result.getDuplicates(), result.getRejected(),
+                    result.getElapsedMillis(), result.getLinesPerSecond());
+            return result;
+        }
+    }
+    
+    // {다음에 읽을 위치(바이트), 지금까지 읽은 줄 수}, 없으면 처음부터
+    private static long[] readCheckpoint(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return new long[]{0, 0};
+        }
+        String[] values = Files.readString(checkpointFile).trim().split(",");
+        return new long[]{Long.parseLong(values[0]), Long.parseLong(values[1])};
+    }
+    
+    // 임시 파일에 쓰고 바꿔치기 (쓰다가 멈춰도 이전 체크포인트가 남음)
+    private static void writeCheckpoint(Path checkpointFile, long offset, long lineNumber) throws IOException {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        Files.writeString(temp, offset + "," + lineNumber);
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // 가져오기 한 번의 상태 (배치, 거절 줄, 집계)
+    private class Run {
+        private final Path checkpointFile;
+        private final BufferedWriter rejectedWriter;
+        private final long startNanos = System.nanoTime();
+        private final long startLine;
+        private final List<StudentDto> batch = new ArrayList<>(batchSize);
+        // 배치와 같이 커밋할 거절 줄 (커밋 전에 멈추면 다시 읽으므로 파일에 먼저 쓰지 않음)
+        private final List<String> rejects = new ArrayList<>();
+        // 필드 값을 풀어 담는 버퍼 (줄마다 다시 씀), 필드별 [시작, 끝)
+        private byte[] scratch = new byte[256];
+        private final int[] fieldStart = new int[FIELD_COUNT];
+        private final int[] fieldEnd = new int[FIELD_COUNT];
+        private long lineNumber;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+        private long batches;
+        
+        private Run(Path checkpointFile, BufferedWriter rejectedWriter, long lineNumber) {
+            this.checkpointFile = checkpointFile;
+            this.rejectedWriter = rejectedWriter;
+            this.lineNumber = lineNumber;
+            this.startLine = lineNumber;
+        }
+        
+        // [start, end) 한 줄 (줄바꿈 제외), nextOffset: 이 줄 다음 위치
+        private void line(MappedByteBuffer buffer, int start, int end, long nextOffset) throws IOException {
+            lineNumber++;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            // UTF-8 BOM
+            if (lineNumber == 1 && end - start >= 3 && (buffer.get(start) & 0xff) == 0xef
+                    && (buffer.get(start + 1) & 0xff) == 0xbb && (buffer.get(start + 2) & 0xff) == 0xbf) {
+                start += 3;
+            }
+            if (start < end) {
+                parse(buffer, start, end);
+            }
+            if (batch.size() >= batchSize || rejects.size() >= batchSize) {
+                flush(nextOffset);
+            }
+        }
+        
+        private void parse(MappedByteBuffer buffer, int start, int end) {
+            int fields = split(buffer, start, end);
+            if (fields != FIELD_COUNT) {
+                reject(buffer, start, end, fields < 0 ? "따옴표 형식 오류" : "필드 수가 " + FIELD_COUNT + "개가 아님");
+                return;
+            }
+            int age = parseAge();
+            // 첫 줄의 나이 칸이 숫자가 아니면 헤더
+            if (age == -1 && lineNumber == 1) {
+                return;
+            }
+            String name = field(0).strip();
+            String major = field(2).strip();
+            String reason = name.isEmpty() ? "이름 없음"
+                    : name.length() > MAX_NAME_LENGTH ? "이름이 " + MAX_NAME_LENGTH + "자를 넘음"
+                    : age == -1 ? "나이가 숫자가 아님"
+                    : age > StudentStatistics.MAX_AGE ? "나이 범위(0~" + StudentStatistics.MAX_AGE + ") 밖"
+                    : major.isEmpty() ? "전공 없음"
+                    : major.length() > MAX_MAJOR_LENGTH ? "전공이 " + MAX_MAJOR_LENGTH + "자를 넘음"
+                    : null;
+            if (reason != null) {
+                reject(buffer, start, end, reason);
+                return;
+            }
+            batch.add(StudentDto.builder().studentName(name).age(age).major(major).build());
+        }
+        
+        // 필드를 scratch에 풀어 담음, 필드 수 반환 (따옴표 형식 오류면 -1, FIELD_COUNT를 넘으면 FIELD_COUNT + 1)
+        private int split(MappedByteBuffer buffer, int start, int end) {
+            if (scratch.length < end - start) {
+                scratch = new byte[end - start];
+            }
+            int count = 0;
+            int out = 0;
+            int i = start;
+            while (true) {
+                if (count == FIELD_COUNT) {
+                    return FIELD_COUNT + 1;
+                }
+                fieldStart[count] = out;
+                if (i < end && buffer.get(i) == '"') {
+                    i++;
+                    while (true) {
+                        if (i >= end) {
+                            return -1;
+                        }
+                        byte b = buffer.get(i++);
+                        if (b != '"') {
+                            scratch[out++] = b;
+                        } else if (i < end && buffer.get(i) == '"') {
+                            scratch[out++] = '"';
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (i < end && buffer.get(i) != ',') {
+                        return -1;
+                    }
+                } else {
+                    while (i < end && buffer.get(i) != ',') {
+                        scratch[out++] = buffer.get(i++);
+                    }
+                }
+                fieldEnd[count++] = out;
+                if (i >= end) {
+                    return count;
+                }
+                i++;
+            }
+        }
+        
+        // 나이 칸을 String 없이 바로 숫자로 (앞뒤 공백 허용), 숫자가 아니면 -1
+        private int parseAge() {
+            int from = fieldStart[1];
+            int to = fieldEnd[1];
+            while (from < to && scratch[from] == ' ') {
+                from++;
+            }
+            while (to > from && scratch[to - 1] == ' ') {
+                to--;
+            }
+            if (from == to || to - from > 9) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = from; i < to; i++) {
+                int digit = scratch[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+        
+        private String field(int index) {
+            return new String(scratch, fieldStart[index], fieldEnd[index] - fieldStart[index], StandardCharsets.UTF_8);
+        }
+        
+        private void reject(MappedByteBuffer buffer, int start, int end, String reason) {
+            byte[] raw = new byte[end - start];
+            buffer.get(start, raw);
+            String line = new String(raw, StandardCharsets.UTF_8);
+            rejected++;
+            if (rejected <= MAX_REJECT_LOGS) {
+                log.warn("학생 가져오기 거절: {}번째 줄 ({}): {}", lineNumber, reason, line);
+            }
+            rejects.add(lineNumber + "," + reason + "," + line);
+        }
+        
+        // 배치 저장 → 거절 줄 기록 → 체크포인트 (nextOffset: 이번 배치 마지막 줄 다음 위치)
+        private void flush(long nextOffset) throws IOException {
+            if (!batch.isEmpty()) {
+                int saved = save();
+                imported += saved;
+                duplicates += batch.size() - saved;
+                batch.clear();
+            }
+            for (String reject : rejects) {
+                rejectedWriter.write(reject);
+                rejectedWriter.newLine();
+            }
+            rejectedWriter.flush();
+            rejects.clear();
+            writeCheckpoint(checkpointFile, nextOffset, lineNumber);
+            if (++batches % PROGRESS_LOG_BATCHES == 0) {
+                log.info("학생 가져오기 진행: {}줄 (저장 {}, 중복 {}, 거절 {}), {}줄/초", lineNumber,
+                        imported, duplicates, rejected, linesPerSecond());
+            }
+        }
+        
+        // 중복 검사와 저장 사이에 다른 요청이 같은 학생을 등록하면 배치가 통째로 롤백되므로 한 번 더 시도
+        private int save() {
+            try {
+                return studentService.importStudents(batch);
+            } catch (DuplicateStudentException e) {
+                return studentService.importStudents(batch);
+            }
+        }
+        
+        private long linesPerSecond() {
+            long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+            return (lineNumber - startLine) * 1_000_000_000L / elapsedNanos;
+        }
+        
+        private StudentImportResultDto result() {
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            return new StudentImportResultDto(lineNumber - startLine, imported, duplicates, rejected,
+                    elapsedMillis, linesPerSecond());
+        }
+    }
+}
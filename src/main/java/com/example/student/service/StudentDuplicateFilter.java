@@ -0,0 +1,151 @@
+package com.example.student.service;
+
+import com.example.student.domain.StudentKey;
+import com.example.student.event.StudentChangedEvent;
+import com.example.student.repository.StudentRepository;
+import com.example.student.support.CoalescingTask;
+import com.example.student.support.CountingBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+중복 등록 사전 검사용 블룸 필터
+- 시작 시 DB의 (이름, 나이, 전공)을 모두 읽어 채움
+- 등록/수정/삭제가 커밋된 뒤 이벤트를 받아 갱신
+- 일괄 수정/삭제 뒤에는 어떤 키가 바뀌었는지 모르므로 백그라운드에서 다시 채움
+  → 새 필터를 따로 채우는 동안 기존 필터가 계속 응답하고, 다 채우면 교체
+  → 채우는 동안 온 이벤트는 모아 두었다가 새 필터에 추가만 반영 (지우기는 읽기 전/후를 몰라서 생략, 거짓 양성으로만 남음)
+  → 다시 채우기는 CoalescingTask로 묶음 (일괄 변경이 몰려도 한 번에 하나, 끝난 뒤 필요하면 한 번 더)
+- 일괄 변경 뒤 그 이후에 읽기 시작한 필터로 교체되기 전까지는 "있을 수도 있음"으로 응답
+- "없음"이면 존재 여부 쿼리를 생략해도 됨, 최종 중복 보장은 유니크 인덱스가 담당
+ */
+@Slf4j
+@Component
+public class StudentDuplicateFilter {
+    private final StudentRepository studentRepository;
+    private final StudentShards shards;
+    private final CoalescingTask rebuildTask;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    // 응답에 쓰는 필터 (다시 채우면 통째로 교체)
+    private volatile CountingBloomFilter filter;
+    // 다시 채워야 하는 변경(시작, 일괄 변경)의 세대와, 지금 필터가 반영한 세대
+    // 반영한 세대가 뒤처져 있으면 필터에 없는 키가 있을 수 있으므로 항상 "있을 수도 있음"
+    private volatile long requiredGeneration = 1;
+    private volatile long loadedGeneration;
+    // 새로 채우는 동안 온 이벤트 (채우는 중이 아니면 null), lock으로 보호
+    private final Object lock = new Object();
+    private List<StudentChangedEvent> buffered;
+    
+    public StudentDuplicateFilter(StudentRepository studentRepository,
+                                  StudentShards shards,
+                                  TaskExecutor taskExecutor,
+                                  @Value("${student.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${student.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.studentRepository = studentRepository;
+        this.shards = shards;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        this.rebuildTask = new CoalescingTask("중복 검사 블룸 필터 다시 채우기", taskExecutor, this::rebuild);
+    }
+    
+    // 시작 시 전체 학생으로 필터 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    // 새 필터를 DB에서 채우고, 채우는 동안 온 이벤트를 반영한 뒤 교체
+    public synchronized void rebuild() {
+        long generation;
+        synchronized (lock) {
+            generation = requiredGeneration;
+            buffered = new ArrayList<>();
+        }
+        try {
+            CountingBloomFilter next = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+            long count = load(next);
+            while (true) {
+                List<StudentChangedEvent> events;
+                synchronized (lock) {
+                    if (buffered.isEmpty()) {
+                        filter = next;
+                        loadedGeneration = generation;
+                        log.info("중복 검사 블룸 필터 준비 완료: {}건, 카운터 {}개, 해시 {}개", count, next.size(), next.hashCount());
+                        return;
+                    }
+                    events = buffered;
+                    buffered = new ArrayList<>();
+                }
+                events.forEach(event -> add(next, event));
+            }
+        } finally {
+            synchronized (lock) {
+                buffered = null;
+            }
+        }
+    }
+    
+    private long load(CountingBloomFilter target) {
+        long[] count = {0};
+        shards.readEach(shard -> {
+            try (Stream<StudentKey> keys = studentRepository.streamAllKeys()) {
+                keys.forEach(key -> {
+                    target.add(key.hash64());
+                    count[0]++;
+                });
+            }
+        });
+        return count[0];
+    }
+    
+    // false면 DB에 확실히 없음
+    public boolean mightExist(StudentKey key) {
+        return loadedGeneration < requiredGeneration || filter.mightContain(key.hash64());
+    }
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.type() == StudentChangedEvent.Type.BULK) {
+            synchronized (lock) {
+                requiredGeneration++;
+            }
+            rebuildTask.request();
+            return;
+        }
+        synchronized (lock) {
+            if (buffered != null) {
+                buffered.add(event);
+            }
+        }
+        // 채우는 중에도 기존 필터는 계속 갱신
+        CountingBloomFilter current = filter;
+        if (event.before() != null) {
+            current.remove(StudentKey.of(event.before()).hash64());
+        }
+        add(current, event);
+    }
+    
+    // 이벤트의 바뀐 정보를 필터에 추가
+    private void add(CountingBloomFilter target, StudentChangedEvent event) {
+        if (event.after() != null) {
+            target.add(StudentKey.of(event.after()).hash64());
+        } else if (event.type() == StudentChangedEvent.Type.UPDATED) {
+            // 일부 필드만 수정한 경우는 바뀐 값을 모르므로 다시 읽음
+            // (넣지 않으면 있는 학생을 "없음"으로 판단해서 중복 검사를 건너뜀)
+            shards.read(shards.shardOf(event.studentId()), () -> studentRepository.findDtoById(event.studentId()))
+                    .ifPresent(student -> target.add(StudentKey.of(student).hash64()));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentIngestionDto;
+import com.example.student.exception.DuplicateStudentException;
+import com.example.student.exception.StudentIngestionRejectedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+비동기 등록 (write-behind)
+- 요청은 크기가 정해진 큐에 넣고 접수 번호만 바로 반환, 큐가 가득 차면 거절
+- 백그라운드 스레드 하나가 flushSize 건이 모이거나 flushInterval이 지나면 꺼내서
+  StudentService.addStudents로 한 트랜잭션에 저장
+- 배치 안에 중복 등이 있으면 배치 전체가 롤백되므로 한 건씩 다시 저장해서 실패한 건만 골라냄
+- 처리 결과는 resultTtl 동안 접수 번호로 조회 가능 (Caffeine, 개수 상한 있음)
+- 종료 시에는 웹 서버가 먼저 멈춘 뒤(phase) 큐에 남은 것을 shutdownTimeout 안에 모두 저장
+ */
+@Slf4j
+@Component
+public class StudentIngestionQueue implements SmartLifecycle {
+    // 웹 서버(요청 접수)보다 늦게 멈추도록 더 낮은 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    // 대기 중 종료 신호 확인 간격
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    
+    private final StudentService studentService;
+    private final BlockingQueue<Ingestion> queue;
+    private final Cache<String, StudentIngestionDto> results;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writer;
+    
+    public StudentIngestionQueue(StudentService studentService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${student.ingestion.capacity:10000}") int capacity,
+                                 @Value("${student.ingestion.flush-size:500}") int flushSize,
+                                 @Value("${student.ingestion.flush-interval:100ms}") Duration flushInterval,
+                                 @Value("${student.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                 @Value("${student.ingestion.result-ttl:10m}") Duration resultTtl) {
+        if (flushSize < 1 || flushSize > StudentService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("flush-size는 1 ~ " + StudentService.MAX_BATCH_SIZE + " 사이여야 합니다.");
+        }
+        this.studentService = studentService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        // 대기 중인 것 + 최근 처리 결과까지 담을 수 있도록 큐 크기의 10배
+        this.results = Caffeine.newBuilder()
+                .maximumSize(capacity * 10L)
+                .expireAfterWrite(resultTtl)
+                .build();
+        Gauge.builder("students.ingestion.queued", queue, BlockingQueue::size)
+                .description("비동기 등록 큐에서 저장을 기다리는 수")
+                .register(meterRegistry);
+    }
+    
+    // 등록 접수, 큐가 가득 찼으면 StudentIngestionRejectedException
+    public StudentIngestionDto submit(StudentDto dto) {
+        if (!accepting) {
+            throw new StudentIngestionRejectedException("종료 중이라 등록을 접수할 수 없습니다.");
+        }
+        String trackingId = UUID.randomUUID().toString();
+        StudentIngestionDto queued = StudentIngestionDto.queued(trackingId);
+        results.put(trackingId, queued);
+        if (!queue.offer(new Ingestion(trackingId, dto))) {
+            results.invalidate(trackingId);
+            throw new StudentIngestionRejectedException("등록 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return queued;
+    }
+    
+    // 접수 번호로 처리 상태 조회 (결과 보관 기간이 지나면 empty)
+    public Optional<StudentIngestionDto> find(String trackingId) {
+        return Optional.ofNullable(results.getIfPresent(trackingId));
+    }
+    
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("student-ingestion").daemon(true).start(this::drainLoop);
+    }
+    
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive() || !queue.isEmpty()) {
+            log.warn("종료 대기 시간 안에 저장하지 못한 비동기 등록 {}건이 있습니다.", queue.size());
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    // 멈추라는 신호를 받아도 큐가 빌 때까지 계속 저장
+    private void drainLoop() {
+        List<Ingestion> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.error("비동기 등록 저장 중 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    // flushSize 건이 모이거나 첫 건부터 flushInterval이 지날 때까지 모음
+    // 대기는 STOP_CHECK_NANOS 단위로 끊어서 종료 신호를 확인, 종료 중이면 기다리지 않고 있는 것만
+    private void collect(List<Ingestion> batch) throws InterruptedException {
+        if (!running) {
+            queue.drainTo(batch, flushSize);
+            return;
+        }
+        Ingestion first = queue.poll(Math.min(flushIntervalNanos, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < flushSize && running) {
+            queue.drainTo(batch, flushSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == flushSize || remaining <= 0) {
+                break;
+            }
+            Ingestion next = queue.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+    
+    private void write(List<Ingestion> batch) {
+        try {
+            List<Long> studentIds = studentService.addStudents(batch.stream().map(Ingestion::student).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                saved(batch.get(i), studentIds.get(i));
+            }
+        } catch (DuplicateStudentException | IllegalArgumentException e) {
+            // 배치 전체가 롤백됐으므로 한 건씩 다시 저장
+            for (Ingestion ingestion : batch) {
+                try {
+                    saved(ingestion, studentService.addStudent(ingestion.student()));
+                } catch (RuntimeException single) {
+                    failed(ingestion, single.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("비동기 등록 {}건 저장 실패", batch.size(), e);
+            for (Ingestion ingestion : batch) {
+                failed(ingestion, "저장 중 오류가 발생했습니다.");
+            }
+        }
+    }
+    
+    private void saved(Ingestion ingestion, Long studentId) {
+        results.put(ingestion.trackingId(), StudentIngestionDto.saved(ingestion.trackingId(), studentId));
+    }
+    
+    private void failed(Ingestion ingestion, String message) {
+        results.put(ingestion.trackingId(), StudentIngestionDto.failed(ingestion.trackingId(), message));
+    }
+    
+    private record Ingestion(String trackingId, StudentDto student) {
+    }
+}
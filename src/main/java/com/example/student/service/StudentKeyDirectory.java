@@ -0,0 +1,178 @@
+package com.example.student.service;
+
+import com.example.student.domain.StudentKey;
+import com.example.student.exception.DuplicateStudentException;
+import com.example.student.support.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+샤드 전체에서 (이름, 나이, 전공) 유니크를 보장하는 키 목록 (0번 샤드의 student_key 테이블, 샤딩할 때만)
+- 샤드마다 유니크 인덱스가 따로라서, 수정/일부 수정/전공 일괄 변경으로 다른 샤드의 학생과 같아지는 건 막지 못함
+  → 학번마다 지금 키를 한 줄씩 두고 여기에 유니크 인덱스 (uk_student_key_name_age_major)
+- 학생 테이블을 바꾸는 문장마다 같은 조건의 문장 하나를 여기에도 실행 (조회 없이 한 문장씩)
+  겹치면 그 자리에서 유니크 인덱스 위반 → DuplicateStudentException, 동시에 같은 키로 바꾸면 뒤쪽이 행 잠금을 기다렸다가 실패
+- 0번 샤드 커넥션을 따로 열어(자동 커밋 끔) 지금 트랜잭션이 커밋되기 직전에 커밋, 롤백되면 같이 롤백
+  한 스레드에서 중첩된 샤드 트랜잭션(일괄 처리)은 커넥션 하나를 같이 씀 (처음 연 트랜잭션이 커밋할 때 커밋)
+  → 키 목록을 먼저 커밋하므로 그 뒤 학생 테이블 커밋이 실패하면 지워진 키가 남을 수 있음 (중복을 놓치는 쪽이 아니라 막는 쪽)
+- 샤딩 전부터 0번 샤드에 있던 학생은 db/student.sql의 채우기 문장으로 한 번 넣어 둬야 함
+ */
+@Slf4j
+@Component
+public class StudentKeyDirectory {
+    public static final String UNIQUE_KEY = "uk_student_key_name_age_major";
+    // IN 절 하나에 넣을 최대 값 수 (StudentService와 같음)
+    private static final int IN_CLAUSE_SIZE = 1000;
+    
+    // 지금 스레드에서 열어 둔 키 목록 커넥션 (트랜잭션이 끝나면 지움)
+    private static final ThreadLocal<JdbcTemplate> CURRENT = new ThreadLocal<>();
+    
+    // 샤딩하지 않으면 null (모든 메서드가 아무것도 하지 않음)
+    private final DataSource dataSource;
+    
+    public StudentKeyDirectory(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        ShardRoutingDataSource routing = shardRoutingDataSource.getIfAvailable();
+        this.dataSource = routing == null ? null : routing.shard(0);
+    }
+    
+    public void insert(Long studentId, StudentKey key) {
+        insertAll(List.of(studentId), List.of(key));
+    }
+    
+    // studentIds와 keys는 같은 순서
+    public void insertAll(List<Long> studentIds, List<StudentKey> keys) {
+        List<Object[]> rows = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            StudentKey key = keys.get(i);
+            rows.add(new Object[]{studentIds.get(i), key.studentName(), key.age(), key.major()});
+        }
+        execute(jdbc -> jdbc.batchUpdate(
+                "insert into student_key (student_id, student_name, age, major) values (?, ?, ?, ?)", rows));
+    }
+    
+    public void update(Long studentId, StudentKey key) {
+        execute(jdbc -> jdbc.update(
+                "update student_key set student_name = ?, age = ?, major = ? where student_id = ?",
+                key.studentName(), key.age(), key.major(), studentId));
+    }
+    
+    // null인 필드는 그대로
+    public void patch(Long studentId, String studentName, Integer age, String major) {
+        execute(jdbc -> jdbc.update(
+                "update student_key set student_name = coalesce(?, student_name), age = coalesce(?, age), "
+                        + "major = coalesce(?, major) where student_id = ?",
+                studentName, age, major, studentId));
+    }
+    
+    public void delete(Long studentId) {
+        deleteAll(List.of(studentId));
+    }
+    
+    public void deleteAll(List<Long> studentIds) {
+        inChunks(studentIds, chunk -> execute(jdbc -> jdbc.update(
+                "delete from student_key where student_id in (" + placeholders(chunk.size()) + ")",
+                chunk.toArray())));
+    }
+    
+    public void deleteByMajor(String major) {
+        execute(jdbc -> jdbc.update("delete from student_key where major = ?", major));
+    }
+    
+    public void changeMajor(List<Long> studentIds, String toMajor) {
+        inChunks(studentIds, chunk -> {
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = toMajor;
+            System.arraycopy(chunk.toArray(), 0, args, 1, chunk.size());
+            execute(jdbc -> jdbc.update(
+                    "update student_key set major = ? where student_id in (" + placeholders(chunk.size()) + ")",
+                    args));
+        });
+    }
+    
+    public void changeMajorByMajor(String fromMajor, String toMajor) {
+        execute(jdbc -> jdbc.update("update student_key set major = ? where major = ?", toMajor, fromMajor));
+    }
+    
+    private void execute(Consumer<JdbcTemplate> statement) {
+        if (dataSource == null) {
+            return;
+        }
+        try {
+            statement.accept(current());
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateStudentException("이미 등록된 학생입니다.");
+        }
+    }
+    
+    // 지금 스레드에서 열어 둔 커넥션, 없으면 열고 지금 트랜잭션이 끝날 때 커밋/롤백하도록 등록
+    private JdbcTemplate current() {
+        JdbcTemplate jdbc = CURRENT.get();
+        if (jdbc != null) {
+            return jdbc;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("학생 키 목록은 트랜잭션 안에서만 바꿀 수 있습니다.");
+        }
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            throw new IllegalStateException("학생 키 목록 커넥션을 열지 못했습니다.", e);
+        }
+        jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        CURRENT.set(jdbc);
+        TransactionSynchronizationManager.registerSynchronization(new Committer(connection));
+        return jdbc;
+    }
+    
+    // IN 절 크기 단위로 나눠서 실행
+    private static void inChunks(List<Long> studentIds, Consumer<List<Long>> statement) {
+        for (int from = 0; from < studentIds.size(); from += IN_CLAUSE_SIZE) {
+            statement.accept(studentIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, studentIds.size())));
+        }
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    // 트랜잭션이 커밋되기 직전에 키 목록을 커밋, 끝나면 (커밋 안 됐으면 롤백하고) 커넥션 반납
+    private record Committer(Connection connection) implements TransactionSynchronization {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                throw new IllegalStateException("학생 키 목록을 커밋하지 못했습니다.", e);
+            }
+        }
+        
+        @Override
+        public void afterCompletion(int status) {
+            CURRENT.remove();
+            try (connection) {
+                if (status != STATUS_COMMITTED) {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                log.warn("학생 키 목록 커넥션을 정리하지 못했습니다.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+학생 목록(GET /students, JSON) 응답용 직렬화 스냅샷
+- 전체 목록을 학번 순 JSON 배열 하나로 직렬화해서 다이렉트 버퍼(힙 밖)에 보관
+  학생마다 끝 위치와 학번을 배열로 같이 두어서, 페이지 하나 = "[" + 연속된 구간 + "]"
+  → 조회할 때 DB, DTO 생성, 직렬화 없이 메모리 복사만
+- 만들기 시작할 때의 목록 ETag를 같이 보관하고 응답 ETag도 이 값을 씀 (내용과 ETag가 항상 맞음)
+- 등록/수정/삭제로 목록 ETag가 바뀌면, 다음 조회 때 백그라운드에서 다시 만들고
+  다 만들 때까지는 이전 스냅샷으로 응답 (잠깐 이전 목록이 보일 수 있음)
+- 다시 만들기는 minRebuildInterval에 한 번까지 (쓰기가 몰려도 전체 직렬화는 구간마다 한 번으로 묶임)
+- 스냅샷이 없거나(시작 직후, 실패) maxBytes를 넘으면 empty → DB에서 조회
+- maxBytes는 다이렉트 메모리 한도의 1/4까지 (지금 스냅샷 + 만드는 중인 버퍼 + 늘릴 때 복사본)
+ */
+@Slf4j
+@Component
+public class StudentListSnapshot {
+    // 처음 잡는 버퍼 크기 (모자라면 두 배씩)
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    // 다이렉트 메모리 한도 중 스냅샷에 쓸 수 있는 비율 (1/4)
+    private static final int DIRECT_MEMORY_SHARE = 4;
+    
+    private final StudentRepository studentRepository;
+    private final StudentModificationCounter modificationCounter;
+    private final ObjectWriter writer;
+    private final StudentShards shards;
+    private final TaskExecutor taskExecutor;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long minRebuildIntervalNanos;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 마지막으로 다시 만들기 시작한 시각 (System.nanoTime)
+    private volatile long lastRebuildNanos;
+    private volatile Snapshot current;
+    // maxBytes를 넘었던 목록 ETag (목록이 바뀌기 전까지 다시 만들지 않음)
+    private volatile String overflowedEtag;
+    
+    public StudentListSnapshot(StudentRepository studentRepository,
+                               StudentModificationCounter modificationCounter,
+                               ObjectMapper objectMapper,
+                               StudentShards shards,
+                               TaskExecutor taskExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${student.list-snapshot.enabled:true}") boolean enabled,
+                               @Value("${student.list-snapshot.max-size:64MB}") DataSize maxSize,
+                               @Value("${student.list-snapshot.min-rebuild-interval:1s}") Duration minRebuildInterval) {
+        this.studentRepository = studentRepository;
+        this.modificationCounter = modificationCounter;
+        // 학생 사이 구분자가 쉼표 하나여야 위치 계산이 맞으므로 들여쓰기는 끔
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.shards = shards;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+        // ByteBuffer 하나는 2GB까지
+        long limit = Math.min(maxDirectMemory() / DIRECT_MEMORY_SHARE, Integer.MAX_VALUE - 8);
+        if (enabled && maxSize.toBytes() > limit) {
+            log.warn("학생 목록 스냅샷 상한 {}바이트를 다이렉트 메모리 한도에 맞춰 {}바이트로 줄입니다.", maxSize.toBytes(), limit);
+        }
+        this.maxBytes = Math.min(maxSize.toBytes(), limit);
+        this.minRebuildIntervalNanos = minRebuildInterval.toNanos();
+        this.lastRebuildNanos = System.nanoTime() - minRebuildIntervalNanos;
+        Gauge.builder("students.list.snapshot.bytes", this, snapshot -> {
+                    Snapshot value = snapshot.current;
+                    return value == null ? 0 : value.retainedBytes;
+                })
+                .description("목록 응답 스냅샷 크기 (다이렉트 버퍼)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+    
+    // -XX:MaxDirectMemorySize, 지정하지 않았으면(0) JVM 기본값과 같은 최대 힙 크기
+    private static long maxDirectMemory() {
+        HotSpotDiagnosticMXBean diagnostic = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        long configured = diagnostic == null ? 0 : Long.parseLong(diagnostic.getVMOption("MaxDirectMemorySize").getValue());
+        return configured > 0 ? configured : Runtime.getRuntime().maxMemory();
+    }
+    
+    // afterId 다음 학번부터 limit 건 (페이지 크기는 StudentService.findStudents와 같음)
+    public Optional<Page> page(Long afterId, Integer limit) {
+        return current().map(snapshot -> snapshot.page(afterId == null ? 0L : afterId, StudentService.pageSize(limit)));
+    }
+    
+    // 전체 목록
+    public Optional<Page> all() {
+        return current().map(snapshot -> snapshot.page(Long.MIN_VALUE, Integer.MAX_VALUE));
+    }
+    
+    // 지금 쓸 수 있는 스냅샷, 목록이 바뀌었으면 다시 만들기 시작 (만드는 동안은 이전 것)
+    private Optional<Snapshot> current() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = current;
+        String etag = modificationCounter.etag();
+        if ((snapshot == null || !snapshot.etag.equals(etag)) && !etag.equals(overflowedEtag)
+                && System.nanoTime() - lastRebuildNanos >= minRebuildIntervalNanos) {
+            rebuildInBackground();
+        }
+        return Optional.ofNullable(snapshot);
+    }
+    
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        lastRebuildNanos = System.nanoTime();
+        try {
+            taskExecutor.execute(this::rebuild);
+        } catch (TaskRejectedException e) {
+            rebuilding.set(false);
+        }
+    }
+    
+    private void rebuild() {
+        try {
+            // 읽기 전에 ETag를 먼저 잡음 (ETag가 내용보다 오래될 수는 있어도 새로울 수는 없게)
+            String etag = modificationCounter.etag();
+            Snapshot snapshot = build(etag);
+            if (snapshot == null) {
+                overflowedEtag = etag;
+                log.warn("학생 목록 스냅샷이 {}바이트를 넘어서 DB 조회로 응답합니다.", maxBytes);
+            }
+            current = snapshot;
+        } catch (RuntimeException e) {
+            // 이전 스냅샷을 계속 쓰면 언제까지 낡은 목록이 나갈지 모르므로 버림
+            current = null;
+            log.warn("학생 목록 스냅샷을 만들지 못했습니다.", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+    
+    // maxBytes를 넘으면 null
+    // 샤드를 차례로 읽어서 하나의 배열로 씀 (샤드 순서 = 학번 순서)
+    private Snapshot build(String etag) {
+        DirectBufferOutputStream out = new DirectBufferOutputStream(maxBytes);
+        Index index = new Index();
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.writeStartArray();
+            shards.readEach(shard -> {
+                try (Stream<StudentDto> students = studentRepository.streamAllDtos()) {
+                    for (Iterator<StudentDto> iterator = students.iterator(); iterator.hasNext(); ) {
+                        StudentDto student = iterator.next();
+                        // 값마다 flush (FLUSH_AFTER_WRITE_VALUE) 되므로 쓴 직후 위치가 이 학생 JSON의 끝
+                        writer.writeValue(generator, student);
+                        index.add(student.getStudentId(), out.position());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        } catch (TooLargeException e) {
+            return null;
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof TooLargeException) {
+                return null;
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Snapshot(etag, out.written(), out.capacity(), index.ids, index.ends, index.count);
+    }
+    
+    // 학번과 JSON 끝 위치 (모자라면 두 배씩)
+    private static final class Index {
+        private long[] ids = new long[1024];
+        private int[] ends = new int[1024];
+        private int count;
+        
+        private void add(long id, int end) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            ids[count] = id;
+            ends[count] = end;
+            count++;
+        }
+    }
+    
+    private static final class Snapshot {
+        private final String etag;
+        // "[학생0,학생1,...]"
+        private final ByteBuffer json;
+        // json이 잘라낸 원래 버퍼 크기 (남은 공간까지 들고 있음)
+        private final long retainedBytes;
+        // 학번 (오름차순), 각 학생 JSON의 끝 위치 (다음 학생은 쉼표 다음부터)
+        private final long[] ids;
+        private final int[] ends;
+        private final int count;
+        
+        private Snapshot(String etag, ByteBuffer json, long retainedBytes, long[] ids, int[] ends, int count) {
+            this.etag = etag;
+            this.json = json;
+            this.retainedBytes = retainedBytes;
+            this.ids = ids;
+            this.ends = ends;
+            this.count = count;
+        }
+        
+        private Page page(long afterId, int size) {
+            // afterId보다 큰 첫 학번
+            int from = Arrays.binarySearch(ids, 0, count, afterId);
+            from = from >= 0 ? from + 1 : -from - 1;
+            int to = (int) Math.min((long) from + size, count);
+            int start = from == 0 ? 1 : ends[from - 1] + 1;
+            int end = to == from ? start : ends[to - 1];
+            // 다음 페이지가 있으면 마지막 학번이 커서
+            Long nextCursor = to < count ? ids[to - 1] : null;
+            return new Page(etag, json, start, end, nextCursor);
+        }
+    }
+    
+    // 스냅샷에서 잘라낸 응답 하나
+    public static final class Page {
+        private final String etag;
+        private final ByteBuffer json;
+        private final int start;
+        private final int end;
+        private final Long nextCursor;
+        
+        private Page(String etag, ByteBuffer json, int start, int end, Long nextCursor) {
+            this.etag = etag;
+            this.json = json;
+            this.start = start;
+            this.end = end;
+            this.nextCursor = nextCursor;
+        }
+        
+        // 스냅샷을 만들 때의 목록 ETag
+        public String etag() {
+            return etag;
+        }
+        
+        // 다음 페이지 커서, 마지막 페이지면 null
+        public Long nextCursor() {
+            return nextCursor;
+        }
+        
+        public long contentLength() {
+            return end - start + 2;
+        }
+        
+        // 다이렉트 버퍼 구간을 그대로 복사 (스레드마다 따로 slice를 만들어서 서로 위치를 건드리지 않음)
+        public void writeTo(OutputStream out) throws IOException {
+            out.write('[');
+            ByteBuffer slice = json.slice(start, end - start);
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (slice.hasRemaining()) {
+                channel.write(slice);
+            }
+            out.write(']');
+        }
+    }
+    
+    // 다이렉트 버퍼에 쓰는 OutputStream, 모자라면 두 배로 늘림 (maxBytes까지)
+    private static final class DirectBufferOutputStream extends OutputStream {
+        private final long maxBytes;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+        
+        private DirectBufferOutputStream(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureRemaining(len);
+            buffer.put(b, off, len);
+        }
+        
+        private int position() {
+            return buffer.position();
+        }
+        
+        // 쓴 구간만 보이는 slice (복사하지 않음, 남은 공간은 버퍼가 버려질 때 같이 반납)
+        // 딱 맞는 크기로 복사하면 복사하는 동안 다이렉트 메모리를 두 벌 씀
+        private ByteBuffer written() {
+            return buffer.flip().slice();
+        }
+        
+        private int capacity() {
+            return buffer.capacity();
+        }
+        
+        private void ensureRemaining(int length) throws TooLargeException {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            long required = (long) buffer.position() + length;
+            if (required > maxBytes) {
+                throw new TooLargeException();
+            }
+            long capacity = Math.min(Math.max(required, (long) buffer.capacity() * 2), maxBytes);
+            ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+            grown.put(buffer.flip());
+            buffer = grown;
+        }
+    }
+    
+    private static final class TooLargeException extends IOException {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.support.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/*
+학생 1명 조회 요청 합치기
+캐시가 비어 있을 때 같은 학번으로 동시에 들어온 조회가 DB에 한 번만 가도록
+StudentService.findStudent 앞에서 single-flight로 묶음
+조회 중에 커밋된 수정/삭제가 있으면 방금 캐시에 넣은 값을 다시 제거 (StudentCacheInvalidator)
+ */
+@Component
+public class StudentLookupCoalescer {
+    private final StudentService studentService;
+    private final StudentCacheInvalidator cacheInvalidator;
+    private final SingleFlight<Long, StudentDto> singleFlight = new SingleFlight<>();
+    
+    public StudentLookupCoalescer(StudentService studentService, StudentCacheInvalidator cacheInvalidator,
+                                  MeterRegistry meterRegistry) {
+        this.studentService = studentService;
+        this.cacheInvalidator = cacheInvalidator;
+        FunctionCounter.builder("students.lookup.coalescing", singleFlight, SingleFlight::leaderCount)
+                .tag("role", "leader")
+                .description("DB/캐시 조회를 직접 실행한 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("students.lookup.coalescing", singleFlight, SingleFlight::followerCount)
+                .tag("role", "follower")
+                .description("진행 중인 조회 결과를 같이 받은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("students.lookup.in.flight", singleFlight, SingleFlight::inFlightCount)
+                .description("현재 진행 중인 학생 조회 수")
+                .register(meterRegistry);
+    }
+    
+    // 학생 정보 조회(1명)
+    public StudentDto findStudent(Long studentId) {
+        return singleFlight.execute(studentId, () -> {
+            long generation = cacheInvalidator.generation(studentId);
+            StudentDto student = studentService.findStudent(studentId);
+            cacheInvalidator.evictIfChanged(studentId, generation);
+            return student;
+        });
+    }
+}
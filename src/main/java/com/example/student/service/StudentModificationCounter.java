@@ -0,0 +1,31 @@
+package com.example.student.service;
+
+import com.example.student.event.StudentChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+학생 목록 전체의 변경 횟수 (목록 응답 ETag용)
+- 등록/수정/삭제가 커밋될 때마다 1 증가
+- 값은 프로세스 안에서만 유지되므로 시작 시각을 같이 붙여서 재시작 전 ETag와 겹치지 않게 함
+- 목록을 조회하기 전에 읽으면 ETag가 응답 내용보다 오래될 수는 있어도 새로울 수는 없음 (다음 요청에서 다시 받음)
+- 같은 목록이라도 형식(JSON/CBOR/Smile)과 압축에 따라 바이트가 달라지므로 약한 ETag (W/)
+  (톰캣은 강한 ETag가 붙은 응답은 압축하지 않음, If-None-Match는 약한 비교라 304는 그대로 동작)
+ */
+@Component
+public class StudentModificationCounter {
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong modifications = new AtomicLong();
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        modifications.incrementAndGet();
+    }
+    
+    // 현재 목록 ETag (W/와 따옴표 포함)
+    public String etag() {
+        return "W/\"" + epoch + "-" + modifications.get() + "\"";
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentNameDto;
+import com.example.student.event.StudentChangedEvent;
+import com.example.student.repository.StudentRepository;
+import com.example.student.support.CoalescingTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/*
+이름 자동완성용 메모리 인덱스
+- (이름, 학번) 순으로 정렬된 skip list, 앞부분이 같은 이름은 연속 구간이므로 시작 위치부터 limit 건만 읽음
+- 학번 -> 이름 맵을 같이 들고 있어서 이름 없이 오는 수정/삭제 이벤트도 반영
+- 시작 시 DB에서 채우고, 등록/수정/삭제가 커밋된 뒤 이벤트로 갱신, 일괄 수정/삭제 뒤에는 백그라운드에서 다시 채움
+  → 새 인덱스를 따로 채우는 동안 기존 인덱스가 계속 응답하고, 다 채우면 교체
+  → 채우는 동안 온 이벤트는 모아 두었다가 새 인덱스에 학번 기준으로 다시 반영 (같은 학생을 두 번 반영해도 결과가 같음)
+  → 다시 채우기는 CoalescingTask로 묶음 (일괄 변경이 몰려도 한 번에 하나, 끝난 뒤 필요하면 한 번 더)
+- 메모리 상한(max-entries)을 넘거나 처음 채우기 전이면 사용하지 않음 (StudentService가 DB 검색으로 대신 처리)
+ */
+@Slf4j
+@Component
+public class StudentNameIndex {
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::studentName)
+            .thenComparingLong(Entry::studentId);
+    
+    private final StudentRepository studentRepository;
+    private final StudentShards shards;
+    private final CoalescingTask rebuildTask;
+    private final int maxEntries;
+    // 조회에 쓰는 인덱스 (처음 채우기 전이거나 상한을 넘었으면 null, 다시 채우면 통째로 교체)
+    private volatile Index current;
+    // 새로 채우는 동안 온 이벤트 (채우는 중이 아니면 null), lock으로 보호
+    private final Object lock = new Object();
+    private List<StudentChangedEvent> buffered;
+    
+    public StudentNameIndex(StudentRepository studentRepository,
+                            StudentShards shards,
+                            TaskExecutor taskExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${student.autocomplete.max-entries:1000000}") int maxEntries) {
+        this.studentRepository = studentRepository;
+        this.shards = shards;
+        this.maxEntries = maxEntries;
+        this.rebuildTask = new CoalescingTask("이름 자동완성 인덱스 다시 채우기", taskExecutor, this::rebuild);
+        Gauge.builder("students.autocomplete.entries", this, StudentNameIndex::size)
+                .description("이름 자동완성 인덱스에 들어 있는 학생 수")
+                .register(meterRegistry);
+    }
+    
+    // 시작 시 전체 학생으로 인덱스 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    // 새 인덱스를 DB에서 채우고, 채우는 동안 온 이벤트를 반영한 뒤 교체
+    // 상한을 넘으면 인덱스를 버리고 사용 안 함
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            buffered = new ArrayList<>();
+        }
+        try {
+            Index next = new Index();
+            if (!load(next)) {
+                overflow();
+                return;
+            }
+            while (true) {
+                List<StudentChangedEvent> events;
+                synchronized (lock) {
+                    if (buffered.isEmpty()) {
+                        current = next;
+                        log.info("이름 자동완성 인덱스 준비 완료: {}건", next.size());
+                        return;
+                    }
+                    events = buffered;
+                    buffered = new ArrayList<>();
+                }
+                for (StudentChangedEvent event : events) {
+                    if (!apply(next, event)) {
+                        overflow();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            synchronized (lock) {
+                buffered = null;
+            }
+        }
+    }
+    
+    // 상한을 넘으면 false (남은 샤드는 읽지 않음)
+    private boolean load(Index target) {
+        boolean[] loaded = {true};
+        shards.readEach(shard -> {
+            if (!loaded[0]) {
+                return;
+            }
+            try (Stream<StudentDto> students = studentRepository.streamAllDtos()) {
+                loaded[0] = students.allMatch(student -> target.put(student.getStudentId(), student.getStudentName()));
+            }
+        });
+        return loaded[0];
+    }
+    
+    // 이름이 prefix로 시작하는 학생을 (이름, 학번) 순으로 limit 건
+    // 인덱스를 쓸 수 없으면 empty
+    public Optional<List<StudentNameDto>> find(String prefix, int limit) {
+        Index index = current;
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(index.find(prefix, limit));
+    }
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.type() == StudentChangedEvent.Type.BULK) {
+            rebuildTask.request();
+            return;
+        }
+        synchronized (lock) {
+            if (buffered != null) {
+                buffered.add(event);
+            }
+        }
+        // 채우는 중에도 기존 인덱스는 계속 갱신
+        Index index = current;
+        if (index != null && !apply(index, event)) {
+            synchronized (lock) {
+                // 그 사이에 새 인덱스로 바뀌었으면 새 인덱스는 그대로 둠
+                if (current == index) {
+                    overflow();
+                }
+            }
+        }
+    }
+    
+    // 상한을 넘으면 false
+    private boolean apply(Index target, StudentChangedEvent event) {
+        return switch (event.type()) {
+            case CREATED -> target.put(event.after().getStudentId(), event.after().getStudentName());
+            case UPDATED -> {
+                // 일부 필드만 수정한 경우는 바뀐 이름을 모르므로 다시 읽음
+                StudentDto student = event.after() != null ? event.after()
+                        : shards.read(shards.shardOf(event.studentId()), () -> studentRepository.findDtoById(event.studentId()))
+                        .orElse(null);
+                yield student == null || target.put(student.getStudentId(), student.getStudentName());
+            }
+            case DELETED -> {
+                target.remove(event.studentId());
+                yield true;
+            }
+            case BULK -> true;
+        };
+    }
+    
+    // 다음 rebuild 전까지 사용 안 함
+    private void overflow() {
+        current = null;
+        log.warn("학생 수가 자동완성 인덱스 상한({})을 넘어 DB 검색으로 처리합니다.", maxEntries);
+    }
+    
+    private int size() {
+        Index index = current;
+        return index == null ? 0 : index.size();
+    }
+    
+    // skip list와 학번 -> 이름 맵 한 벌
+    private class Index {
+        private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+        private final ConcurrentHashMap<Long, String> names = new ConcurrentHashMap<>();
+        
+        List<StudentNameDto> find(String prefix, int limit) {
+            List<StudentNameDto> found = new ArrayList<>(Math.min(limit, 16));
+            for (Entry entry : entries.tailSet(new Entry(prefix, Long.MIN_VALUE))) {
+                if (found.size() == limit || !entry.studentName().startsWith(prefix)) {
+                    break;
+                }
+                found.add(new StudentNameDto(entry.studentId(), entry.studentName()));
+            }
+            return found;
+        }
+        
+        // 상한을 넘으면 false
+        boolean put(Long studentId, String studentName) {
+            if (names.size() >= maxEntries && !names.containsKey(studentId)) {
+                return false;
+            }
+            names.compute(studentId, (id, oldName) -> {
+                if (oldName != null) {
+                    entries.remove(new Entry(oldName, id));
+                }
+                entries.add(new Entry(studentName, id));
+                return studentName;
+            });
+            return true;
+        }
+        
+        void remove(Long studentId) {
+            names.computeIfPresent(studentId, (id, oldName) -> {
+                entries.remove(new Entry(oldName, id));
+                return null;
+            });
+        }
+        
+        int size() {
+            return names.size();
+        }
+    }
+    
+    private record Entry(String studentName, long studentId) {
+    }
+}
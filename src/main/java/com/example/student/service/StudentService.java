@@ -1,82 +1,542 @@
 package com.example.student.service;
 
+import com.example.student.config.CacheConfig;
 import com.example.student.domain.Student;
+import com.example.student.domain.StudentKey;
+import com.example.student.dto.StudentBulkDeleteDto;
 import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentMajorChangeDto;
+import com.example.student.dto.StudentNameDto;
+import com.example.student.dto.StudentPageDto;
+import com.example.student.dto.StudentPatchDto;
+import com.example.student.dto.StudentSearchCondition;
+import com.example.student.dto.StudentStatsDto;
+import com.example.student.event.StudentChangedEvent;
+import com.example.student.exception.StudentVersionMismatchException;
 import com.example.student.repository.StudentRepository;
 import com.example.student.exception.DuplicateStudentException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceException;
 
 @Service
 @RequiredArgsConstructor
 public class StudentService {
+    // 페이지 크기 기본값과 상한
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    // 일괄 등록 한 번에 받을 수 있는 최대 건수
+    public static final int MAX_BATCH_SIZE = 10_000;
+    // 자동완성 결과 수
+    public static final int DEFAULT_AUTOCOMPLETE_SIZE = 10;
+    public static final int MAX_AUTOCOMPLETE_SIZE = 100;
+    // hibernate.jdbc.batch_size와 맞춤, 이 단위로 flush/clear
+    private static final int FLUSH_SIZE = 50;
+    // IN 절 하나에 넣을 최대 값 수
+    private static final int IN_CLAUSE_SIZE = 1000;
+    
     private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final StudentDuplicateFilter duplicateFilter;
+    private final StudentNameIndex nameIndex;
+    private final StudentStatistics statistics;
+    private final StudentShards shards;
+    private final StudentKeyDirectory keyDirectory;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 학생 정보 등록
     // 학번을 왜 return 하는지 명확히 이해 X
     // 더 공부해야 함
     @Transactional
     public Long addStudent(StudentDto dto) {
-        if (studentRepository.existsByStudentNameAndAgeAndMajor(
-                dto.getStudentName(), dto.getAge(), dto.getMajor())) {
+        StudentKey key = StudentKey.of(dto);
+        // 블룸 필터가 "없음"이라고 하면 존재 여부 쿼리 생략
+        // 동시 등록 경합은 유니크 인덱스가 막아줌 (같은 학생은 항상 같은 샤드)
+        if (duplicateFilter.mightExist(key) && existsInShards(key, -1)) {
             throw new DuplicateStudentException("이미 등록된 학생입니다.");
         }
+        shards.route(shards.shardFor(key));
         Student student = Student.builder()
                 .studentName(dto.getStudentName())
                 .age(dto.getAge())
                 .major(dto.getMajor())
                 .build();
-        Student saved = studentRepository.save(student);
+        Student saved;
+        try {
+            saved = studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        keyDirectory.insert(saved.getStudentId(), key);
+        eventPublisher.publishEvent(StudentChangedEvent.created(toDto(saved)));
         return saved.getStudentId();
     }
     
+    // 학생 정보 일괄 등록
+    // 중복 검사는 이름 목록 IN 조회로 한 번에, insert는 JDBC 배치로 처리
+    @Transactional
+    public List<Long> addStudents(List<StudentDto> dtos) {
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 학생 수는 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+        // 요청 안에서의 중복
+        Set<StudentKey> keys = new HashSet<>();
+        for (StudentDto dto : dtos) {
+            if (!keys.add(StudentKey.of(dto))) {
+                throw new DuplicateStudentException("이미 등록된 학생입니다.");
+            }
+        }
+        // DB에 이미 있는 학생과의 중복
+        if (!existingKeys(keys).isEmpty()) {
+            throw new DuplicateStudentException("이미 등록된 학생입니다.");
+        }
+        return insertAll(dtos);
+    }
+    
+    // CSV 가져오기용 일괄 등록
+    // addStudents와 달리 중복(요청 안, DB)은 건너뛰고 나머지만 저장, 저장한 수를 반환
+    @Transactional
+    public int importStudents(List<StudentDto> dtos) {
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 학생 수는 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+        Set<StudentKey> keys = new HashSet<>();
+        List<StudentDto> unique = new ArrayList<>(dtos.size());
+        for (StudentDto dto : dtos) {
+            if (keys.add(StudentKey.of(dto))) {
+                unique.add(dto);
+            }
+        }
+        Set<StudentKey> existing = existingKeys(keys);
+        if (!existing.isEmpty()) {
+            unique.removeIf(dto -> existing.contains(StudentKey.of(dto)));
+        }
+        return insertAll(unique).size();
+    }
+    
+    // exceptShard를 뺀 샤드에 같은 학생이 있는지
+    // 수정으로 (이름, 나이, 전공)이 바뀐 학생은 처음 샤드에 남아 있으므로 모든 샤드에서 확인
+    private boolean existsInShards(StudentKey key, int exceptShard) {
+        return shards.readAll(shard -> shard != exceptShard
+                && studentRepository.existsByStudentNameAndAgeAndMajor(key.studentName(), key.age(), key.major()))
+                .contains(true);
+    }
+    
+    // DB에 이미 있는 키 (모든 샤드)
+    // 블룸 필터에 걸리는 이름만 IN 조회
+    private Set<StudentKey> existingKeys(Set<StudentKey> keys) {
+        List<String> names = keys.stream()
+                .filter(duplicateFilter::mightExist)
+                .map(StudentKey::studentName)
+                .distinct()
+                .toList();
+        Set<StudentKey> existing = new HashSet<>();
+        for (int from = 0; from < names.size(); from += IN_CLAUSE_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + IN_CLAUSE_SIZE, names.size()));
+            for (List<StudentKey> found : shards.readAll(shard -> studentRepository.findKeysByStudentNameIn(chunk))) {
+                for (StudentKey key : found) {
+                    if (keys.contains(key)) {
+                        existing.add(key);
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+    
+    // 샤드별로 나눠서 insert, 학번은 요청 순서대로 반환
+    private List<Long> insertAll(List<StudentDto> dtos) {
+        Map<Integer, List<Integer>> indexesByShard = new TreeMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            indexesByShard.computeIfAbsent(shards.shardFor(StudentKey.of(dtos.get(i))), shard -> new ArrayList<>())
+                    .add(i);
+        }
+        Long[] ids = new Long[dtos.size()];
+        shards.writeEach(indexesByShard.keySet(), shard -> {
+            List<Integer> indexes = indexesByShard.get(shard);
+            List<Long> saved = insertShard(indexes.stream().map(dtos::get).toList());
+            for (int i = 0; i < indexes.size(); i++) {
+                ids[indexes.get(i)] = saved.get(i);
+            }
+        });
+        return Arrays.asList(ids);
+    }
+    
+    // 한 샤드 insert는 JDBC 배치로, FLUSH_SIZE 단위로 flush/clear
+    private List<Long> insertShard(List<StudentDto> dtos) {
+        List<Long> ids = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += FLUSH_SIZE) {
+            List<Student> students = dtos.subList(from, Math.min(from + FLUSH_SIZE, dtos.size())).stream()
+                    .map(dto -> Student.builder()
+                            .studentName(dto.getStudentName())
+                            .age(dto.getAge())
+                            .major(dto.getMajor())
+                            .build())
+                    .toList();
+            try {
+                studentRepository.saveAll(students);
+                // 배치 단위로 내보내고 영속성 컨텍스트를 비워 메모리 사용량 유지
+                entityManager.flush();
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                throw translateDuplicate(e);
+            }
+            keyDirectory.insertAll(students.stream().map(Student::getStudentId).toList(),
+                    students.stream().map(student -> new StudentKey(
+                            student.getStudentName(), student.getAge(), student.getMajor())).toList());
+            for (Student saved : students) {
+                ids.add(saved.getStudentId());
+                eventPublisher.publishEvent(StudentChangedEvent.created(toDto(saved)));
+            }
+            entityManager.clear();
+        }
+        return ids;
+    }
+    
     // 학생 정보 조회(1명)
+    // 캐시에 있으면 DB와 영속성 컨텍스트를 거치지 않음
+    // 캐시 미스일 때도 엔티티 대신 DTO 프로젝션으로 조회
+    @Cacheable(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
     @Transactional(readOnly = true)
     public StudentDto findStudent(Long studentId) {
-        Student student = studentRepository.findById(studentId)
+        routeToStudent(studentId);
+        return studentRepository.findDtoById(studentId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 학생입니다. id=" + studentId));
-        return StudentDto.builder()
-                .studentId(student.getStudentId())
-                .studentName(student.getStudentName())
-                .age(student.getAge())
-                .major(student.getMajor())
-                .build();
+    }
+    
+    // 학생 정보 조회(페이지 단위)
+    // afterId 다음 학번부터 limit 건, 다음 페이지가 있으면 마지막 학번을 커서로 반환
+    @Transactional(readOnly = true)
+    public StudentPageDto findStudents(Long afterId, Integer limit) {
+        int size = pageSize(limit);
+        long after = afterId == null ? 0L : afterId;
+        // 다음 페이지 존재 여부를 알기 위해 1건 더 조회 (샤드마다 조회해서 학번 순으로 합침)
+        List<StudentDto> rows = merge(shards.readAll(shards.firstShardAfter(after),
+                shard -> studentRepository.findDtosAfter(after, Limit.of(size + 1))), size + 1);
+        return toPage(rows, size);
+    }
+    
+    // 학생 검색 (전공, 나이 범위, 이름 앞부분)
+    // 페이지 방식은 findStudents와 같음
+    @Transactional(readOnly = true)
+    public StudentPageDto searchStudents(StudentSearchCondition condition, Long afterId, Integer limit) {
+        if (condition.getMinAge() != null && condition.getMaxAge() != null
+                && condition.getMinAge() > condition.getMaxAge()) {
+            throw new IllegalArgumentException("최소 나이가 최대 나이보다 클 수 없습니다.");
+        }
+        int size = pageSize(limit);
+        return toPage(search(condition, afterId, size + 1), size);
+    }
+    
+    // 샤드마다 검색해서 학번 순으로 합침
+    private List<StudentDto> search(StudentSearchCondition condition, Long afterId, int limit) {
+        return merge(shards.readAll(shards.firstShardAfter(afterId),
+                shard -> studentRepository.search(condition, afterId, limit)), limit);
+    }
+    
+    // 이름 자동완성 (이름 앞부분이 같은 학생)
+    // 메모리 인덱스를 쓸 수 없을 때(시작 직후, 상한 초과)만 DB 검색
+    public List<StudentNameDto> autocomplete(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("검색할 이름을 입력해야 합니다.");
+        }
+        int size = limit == null ? DEFAULT_AUTOCOMPLETE_SIZE : Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_SIZE);
+        return nameIndex.find(prefix, size)
+                .orElseGet(() -> search(StudentSearchCondition.builder()
+                                .namePrefix(prefix)
+                                .build(), null, size).stream()
+                        .map(student -> new StudentNameDto(student.getStudentId(), student.getStudentName()))
+                        .toList());
+    }
+    
+    // 학생 통계 (전체 수, 전공별 수, 나이별 수)
+    // 메모리에서 유지하는 값을 그대로 반환, DB 조회 없음
+    public StudentStatsDto findStatistics() {
+        return statistics.snapshot();
+    }
+    
+    // 목록 스냅샷도 같은 페이지 크기를 씀
+    static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+    
+    // 샤드별 결과(각각 학번 순)를 앞에서부터 limit 건까지 합침
+    // 앞 샤드의 학번이 항상 더 작으므로 샤드 순서대로 이어 붙이면 학번 순
+    private static List<StudentDto> merge(List<List<StudentDto>> perShard, int limit) {
+        if (perShard.size() == 1) {
+            List<StudentDto> rows = perShard.get(0);
+            return rows.size() <= limit ? rows : rows.subList(0, limit);
+        }
+        List<StudentDto> merged = new ArrayList<>();
+        for (List<StudentDto> rows : perShard) {
+            for (StudentDto row : rows) {
+                if (merged.size() == limit) {
+                    return merged;
+                }
+                merged.add(row);
+            }
+        }
+        return merged;
+    }
+    
+    // size + 1건을 조회한 결과로 페이지 생성
+    private static StudentPageDto toPage(List<StudentDto> rows, int size) {
+        if (rows.size() <= size) {
+            return new StudentPageDto(rows, null);
+        }
+        List<StudentDto> students = rows.subList(0, size);
+        return new StudentPageDto(students, students.get(size - 1).getStudentId());
     }
     
     // 전체 학생 정보 조회
+    // 테이블 전체를 메모리에 올리므로 컨트롤러에서 명시적으로 요청한 경우에만 사용
     @Transactional(readOnly = true)
     public List<StudentDto> findAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(student -> StudentDto.builder()
-                        .studentId(student.getStudentId())
-                        .studentName(student.getStudentName())
-                        .age(student.getAge())
-                        .major(student.getMajor())
-                        .build())
-                .collect(Collectors.toList());
+        return merge(shards.readAll(shard -> studentRepository.findAllDtos()), Integer.MAX_VALUE);
+    }
+    
+    // 전체 학생 정보 내보내기
+    // 한 건씩 DTO로 읽어서 바로 consumer로 넘김 (영속성 컨텍스트에 쌓이지 않음)
+    // 테이블 크기와 상관없이 메모리 사용량이 일정하게 유지됨
+    @Transactional(readOnly = true)
+    public void exportStudents(Consumer<StudentDto> consumer) {
+        // 샤드 순서 = 학번 순서
+        shards.readEach(shard -> {
+            try (Stream<StudentDto> students = studentRepository.streamAllDtos()) {
+                students.forEach(consumer);
+            }
+        });
     }
     
     // 학생 정보 수정
+    // 조회 + 변경 감지 대신 update 한 문장, 영향받은 행이 없으면 없는 학생
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
     @Transactional
     public void updateStudent(Long studentId, StudentDto dto) {
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 학생입니다. id=" + studentId));
-        student.update(dto.getStudentName(), dto.getAge(), dto.getMajor());
+        updateStudent(studentId, dto, null);
+    }
+    
+    // 학생 정보 수정 (버전 확인)
+    // expectedVersion이 있으면 현재 버전과 같을 때만 수정 (다르면 StudentVersionMismatchException)
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
+    @Transactional
+    public void updateStudent(Long studentId, StudentDto dto, Long expectedVersion) {
+        routeToStudent(studentId);
+        int updated;
+        try {
+            updated = studentRepository.updateStudentById(
+                    studentId, dto.getStudentName(), dto.getAge(), dto.getMajor(), expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 학생과 (이름, 나이, 전공)이 겹치면 유니크 인덱스 위반
+            throw translateDuplicate(e);
+        }
+        if (updated == 0) {
+            throw notFoundOrVersionMismatch(studentId, expectedVersion);
+        }
+        // 같은 샤드의 중복은 유니크 인덱스가, 다른 샤드와의 중복은 키 목록이 막음
+        keyDirectory.update(studentId, StudentKey.of(dto));
+        StudentDto after = StudentDto.builder()
+                .studentId(studentId)
+                .studentName(dto.getStudentName())
+                .age(dto.getAge())
+                .major(dto.getMajor())
+                .version(expectedVersion == null ? null : expectedVersion + 1)
+                .build();
+        eventPublisher.publishEvent(StudentChangedEvent.updated(studentId, null, after));
+    }
+    
+    // 학생 정보 일부 수정
+    // null이 아닌 필드만 update 한 문장으로 수정
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
+    @Transactional
+    public void patchStudent(Long studentId, StudentPatchDto dto) {
+        routeToStudent(studentId);
+        int updated;
+        try {
+            updated = studentRepository.patchStudentById(
+                    studentId, dto.getStudentName(), dto.getAge(), dto.getMajor());
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        if (updated == 0) {
+            throw new EntityNotFoundException("존재하지 않는 학생입니다. id=" + studentId);
+        }
+        keyDirectory.patch(studentId, dto.getStudentName(), dto.getAge(), dto.getMajor());
+        // 바뀌지 않은 필드 값은 모르므로 변경 후 정보는 비워서 보냄
+        eventPublisher.publishEvent(StudentChangedEvent.updated(studentId, null, null));
     }
     
     // 학생 정보 삭제
+    // existsById + deleteById(내부에서 다시 조회) 대신 delete 한 문장
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
     @Transactional
     public void deleteStudent(Long studentId) {
-        if (!studentRepository.existsById(studentId)) {
+        deleteStudent(studentId, null);
+    }
+    
+    // 학생 정보 삭제 (버전 확인)
+    // expectedVersion이 있으면 현재 버전과 같을 때만 삭제 (다르면 StudentVersionMismatchException)
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, key = "#studentId")
+    @Transactional
+    public void deleteStudent(Long studentId, Long expectedVersion) {
+        routeToStudent(studentId);
+        if (studentRepository.deleteStudentById(studentId, expectedVersion) == 0) {
+            throw notFoundOrVersionMismatch(studentId, expectedVersion);
+        }
+        keyDirectory.delete(studentId);
+        eventPublisher.publishEvent(StudentChangedEvent.deleted(studentId, null));
+    }
+    
+    // 지금 트랜잭션을 학번의 샤드로 보냄, 없는 샤드 번호면 없는 학생
+    private int routeToStudent(Long studentId) {
+        int shard = shards.shardOf(studentId);
+        if (shard < 0) {
             throw new EntityNotFoundException("존재하지 않는 학생입니다. id=" + studentId);
         }
-        studentRepository.deleteById(studentId);
+        shards.route(shard);
+        return shard;
+    }
+    
+    // 버전 조건이 있을 때만 없는 학생인지 버전이 다른 건지 한 번 더 확인
+    private RuntimeException notFoundOrVersionMismatch(Long studentId, Long expectedVersion) {
+        if (expectedVersion != null && studentRepository.existsById(studentId)) {
+            return new StudentVersionMismatchException(
+                    "다른 요청이 먼저 수정한 학생입니다. id=" + studentId + ", version=" + expectedVersion);
+        }
+        return new EntityNotFoundException("존재하지 않는 학생입니다. id=" + studentId);
+    }
+    
+    // 학생 정보 일괄 삭제 (학번 목록 또는 전공)
+    // 학번 목록은 IN 절 크기 단위로 나눠서 삭제, 삭제된 행 수 반환
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, allEntries = true)
+    @Transactional
+    public int deleteStudents(StudentBulkDeleteDto dto) {
+        boolean byIds = dto.getStudentIds() != null && !dto.getStudentIds().isEmpty();
+        if (byIds == (dto.getMajor() != null)) {
+            throw new IllegalArgumentException("학번 목록과 전공 중 하나만 지정해야 합니다.");
+        }
+        if (byIds) {
+            keyDirectory.deleteAll(distinctIds(dto.getStudentIds()));
+        } else {
+            keyDirectory.deleteByMajor(dto.getMajor());
+        }
+        int deleted = byIds
+                ? onShardsOf(dto.getStudentIds(), studentRepository::deleteByStudentIdIn)
+                : onAllShards(() -> studentRepository.deleteByMajor(dto.getMajor()));
+        if (deleted > 0) {
+            eventPublisher.publishEvent(StudentChangedEvent.bulk());
+        }
+        return deleted;
+    }
+    
+    // 전공 일괄 변경 (학번 목록 또는 기존 전공 기준)
+    // 변경된 행 수 반환
+    @CacheEvict(cacheNames = CacheConfig.STUDENT_CACHE, allEntries = true)
+    @Transactional
+    public int changeMajor(StudentMajorChangeDto dto) {
+        boolean byIds = dto.getStudentIds() != null && !dto.getStudentIds().isEmpty();
+        if (byIds == (dto.getFromMajor() != null) || dto.getToMajor() == null) {
+            throw new IllegalArgumentException("학번 목록과 기존 전공 중 하나, 그리고 바꿀 전공을 지정해야 합니다.");
+        }
+        // 다른 샤드의 학생과 같아지면 키 목록에서 먼저 실패 (샤드 유니크 인덱스는 자기 샤드만 봄)
+        if (byIds) {
+            keyDirectory.changeMajor(distinctIds(dto.getStudentIds()), dto.getToMajor());
+        } else {
+            keyDirectory.changeMajorByMajor(dto.getFromMajor(), dto.getToMajor());
+        }
+        int updated;
+        try {
+            updated = byIds
+                    ? onShardsOf(dto.getStudentIds(),
+                            ids -> studentRepository.updateMajorByStudentIdIn(ids, dto.getToMajor()))
+                    : onAllShards(() -> studentRepository.updateMajorByMajor(dto.getFromMajor(), dto.getToMajor()));
+        } catch (DataIntegrityViolationException e) {
+            // 바꾼 전공에 (이름, 나이)가 같은 학생이 이미 있으면 전체 롤백
+            throw translateDuplicate(e);
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(StudentChangedEvent.bulk());
+        }
+        return updated;
+    }
+    
+    // 학번 목록을 샤드별로 나눠서 샤드마다 IN 절 크기 단위로 실행하고 영향받은 행 수를 합침
+    // (없는 샤드 번호의 학번은 건너뜀)
+    private int onShardsOf(List<Long> studentIds, ToIntFunction<List<Long>> statement) {
+        Map<Integer, List<Long>> idsByShard = new TreeMap<>();
+        for (Long studentId : distinctIds(studentIds)) {
+            int shard = shards.shardOf(studentId);
+            if (shard >= 0) {
+                idsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(studentId);
+            }
+        }
+        int[] affected = {0};
+        shards.writeEach(idsByShard.keySet(), shard -> affected[0] += inChunks(idsByShard.get(shard), statement));
+        return affected[0];
+    }
+    
+    private static List<Long> distinctIds(List<Long> studentIds) {
+        return studentIds.stream().filter(Objects::nonNull).distinct().toList();
+    }
+    
+    // 모든 샤드에서 실행하고 영향받은 행 수를 합침
+    private int onAllShards(IntSupplier statement) {
+        int[] affected = {0};
+        shards.writeAll(shard -> affected[0] += statement.getAsInt());
+        return affected[0];
+    }
+    
+    // 학번 목록을 IN 절 크기 단위로 나눠서 실행하고 영향받은 행 수를 합침
+    private int inChunks(List<Long> studentIds, ToIntFunction<List<Long>> statement) {
+        int affected = 0;
+        for (int from = 0; from < studentIds.size(); from += IN_CLAUSE_SIZE) {
+            affected += statement.applyAsInt(studentIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, studentIds.size())));
+        }
+        return affected;
+    }
+    
+    // 유니크 인덱스 위반이면 중복 등록 예외로 변환, 그 외는 그대로 던짐
+    private RuntimeException translateDuplicate(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(Student.UNIQUE_NAME_AGE_MAJOR)) {
+                return new DuplicateStudentException("이미 등록된 학생입니다.");
+            }
+        }
+        return e;
+    }
+    
+    private StudentDto toDto(Student student) {
+        return StudentDto.builder()
+                .studentId(student.getStudentId())
+                .studentName(student.getStudentName())
+                .age(student.getAge())
+                .major(student.getMajor())
+                .version(student.getVersion())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+package com.example.student.service;
+
+import com.example.student.domain.StudentKey;
+import com.example.student.support.ShardRoutingDataSource;
+import com.example.student.support.SnowflakeIdGenerator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/*
+학생 샤드 선택과 샤드별 실행 (ShardDataSourceConfig)
+- 새 학생: (이름, 나이, 전공) 해시로 샤드를 정함 → 같은 학생은 같은 샤드라서 동시 등록은 유니크 인덱스가 막음
+- 기존 학생: 학번에 들어 있는 샤드 번호
+- 여러 샤드 읽기: 샤드마다 읽기 전용 트랜잭션을 전용 스레드 풀에서 동시에 실행, 결과는 샤드 순서 (= 학번 순서)
+  공용 TaskExecutor(다시 채우기, 비동기 작업)와 섞이지 않도록 따로 두고, 스레드 수와 대기열을 제한
+  대기열까지 차면 요청 스레드에서 직접 실행 (CallerRuns → 몰리면 동시 실행 대신 차례로 읽어서 자연스럽게 늦춤)
+- 여러 샤드 쓰기: 샤드마다 트랜잭션을 열어 둔 채로 다음 샤드를 처리하고 모두 성공하면 안쪽부터 커밋
+  중간에 실패하면 열려 있는 트랜잭션은 모두 롤백 (커밋하는 도중에 실패한 경우만 일부 샤드에 반영될 수 있음)
+- 수정으로 (이름, 나이, 전공)이 바뀐 학생은 처음 샤드에 그대로 남음
+  → 샤드 사이의 중복은 0번 샤드의 키 목록(StudentKeyDirectory)이 막음 (등록/수정/일부 수정/전공 일괄 변경 모두)
+- 샤드 설정이 없으면 샤드 1개: 지금 스레드에서 지금 트랜잭션에 참여해서 실행 (샤딩 전과 같음)
+ */
+@Component
+public class StudentShards implements DisposableBean {
+    private final boolean sharded;
+    private final int count;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    // 여러 샤드 동시 읽기용 (샤드가 1개면 null)
+    private final ThreadPoolExecutor queryExecutor;
+    
+    public StudentShards(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${student.datasource.shard-query-threads:8}") int queryThreads,
+                         @Value("${student.datasource.shard-query-queue:64}") int queryQueue) {
+        ShardRoutingDataSource routing = shardRoutingDataSource.getIfAvailable();
+        this.sharded = routing != null;
+        this.count = routing == null ? 1 : routing.size();
+        // 샤드마다 커넥션이 다르므로 트랜잭션도 따로 (샤드가 1개면 지금 트랜잭션에 참여)
+        int propagation = sharded
+                ? TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                : TransactionDefinition.PROPAGATION_REQUIRED;
+        this.readTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(propagation);
+        this.writeTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.writeTransaction.setPropagationBehavior(propagation);
+        this.queryExecutor = sharded ? new ThreadPoolExecutor(queryThreads, queryThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queryQueue), new CustomizableThreadFactory("shard-query-"),
+                StudentShards::runInCaller) : null;
+        if (queryExecutor != null) {
+            queryExecutor.allowCoreThreadTimeOut(true);
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        if (queryExecutor != null) {
+            queryExecutor.shutdown();
+        }
+    }
+    
+    // 대기열까지 차면 요청 스레드에서 실행
+    // (CallerRunsPolicy는 종료 뒤에 작업을 조용히 버려서 결과를 기다리는 쪽이 멈추므로 종료 뒤에는 예외)
+    private static void runInCaller(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("샤드 조회 스레드 풀이 종료되었습니다.");
+        }
+        task.run();
+    }
+    
+    public int count() {
+        return count;
+    }
+    
+    // 새 학생을 넣을 샤드
+    public int shardFor(StudentKey key) {
+        return Math.floorMod(key.hash64(), count);
+    }
+    
+    // 학번이 들어 있는 샤드, 없는 샤드 번호면 -1 (없는 학생)
+    // 샤드가 1개거나 음수 학번(생성기로 만든 게 아닌, 직접 넣은 데이터)이면 0번 샤드
+    public int shardOf(Long studentId) {
+        if (!sharded || studentId < 0) {
+            return 0;
+        }
+        int shard = SnowflakeIdGenerator.shardOf(studentId);
+        return shard < count ? shard : -1;
+    }
+    
+    // afterId 다음 학번이 있을 수 있는 첫 샤드 (앞 샤드의 학번은 모두 afterId보다 작음)
+    public int firstShardAfter(Long afterId) {
+        return afterId == null || afterId < 0 ? 0 : SnowflakeIdGenerator.shardOf(afterId);
+    }
+    
+    // 지금 트랜잭션을 이 샤드로 보냄 (트랜잭션에서 DB를 처음 쓰기 전에 호출), 트랜잭션이 끝나면 되돌림
+    public void route(int shard) {
+        if (!sharded) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 안에서만 샤드를 지정할 수 있습니다.");
+        }
+        Integer previous = ShardRoutingDataSource.bind(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ShardRoutingDataSource.restore(previous);
+            }
+        });
+    }
+    
+    // 한 샤드에서 읽기 전용 트랜잭션으로 실행
+    public <T> T read(int shard, Supplier<T> work) {
+        return execute(shard, readTransaction, work);
+    }
+    
+    // 모든 샤드에서 동시에 읽고 샤드 순서대로 반환
+    public <T> List<T> readAll(IntFunction<T> work) {
+        return readAll(0, work);
+    }
+    
+    // fromShard부터 마지막 샤드까지 동시에 읽고 샤드 순서대로 반환
+    public <T> List<T> readAll(int fromShard, IntFunction<T> work) {
+        if (fromShard >= count) {
+            return List.of();
+        }
+        if (!sharded) {
+            return List.of(read(0, () -> work.apply(0)));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(count - fromShard);
+        for (int shard = fromShard; shard < count; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> read(target, () -> work.apply(target)),
+                    queryExecutor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+    
+    // 모든 샤드를 차례로 읽음 (샤드마다 읽기 전용 트랜잭션, 순서 = 학번 순서), 스트림 조회용
+    public void readEach(IntConsumer work) {
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            read(target, () -> {
+                work.accept(target);
+                return null;
+            });
+        }
+    }
+    
+    // 모든 샤드에 쓰기
+    public void writeAll(IntConsumer work) {
+        writeEach(IntStream.range(0, count).boxed().toList(), work);
+    }
+    
+    // 여러 샤드에 쓰기 (샤드 순서대로 트랜잭션을 중첩해서 열고, 모두 성공하면 안쪽부터 커밋)
+    public void writeEach(Collection<Integer> shards, IntConsumer work) {
+        writeNested(shards.iterator(), work);
+    }
+    
+    private void writeNested(Iterator<Integer> shards, IntConsumer work) {
+        if (!shards.hasNext()) {
+            return;
+        }
+        int shard = shards.next();
+        execute(shard, writeTransaction, () -> {
+            work.accept(shard);
+            writeNested(shards, work);
+            return null;
+        });
+    }
+    
+    private <T> T execute(int shard, TransactionTemplate transaction, Supplier<T> work) {
+        if (!sharded) {
+            return transaction.execute(status -> work.get());
+        }
+        Integer previous = ShardRoutingDataSource.bind(shard);
+        try {
+            return transaction.execute(status -> work.get());
+        } finally {
+            ShardRoutingDataSource.restore(previous);
+        }
+    }
+    
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.student.service;
+
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentStatsDto;
+import com.example.student.event.StudentChangedEvent;
+import com.example.student.repository.StudentRepository;
+import com.example.student.support.CoalescingTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/*
+학생 통계 (전공별 수, 나이 분포)를 메모리에서 유지
+- 시작 시 DB에서 한 번 채우고, 등록이 커밋되면 이벤트로 증가 (조회는 DB를 거치지 않음)
+- 칸별 카운터만 둠 (학번별 정보를 들고 있지 않음, 학생 수와 무관한 크기)
+  수정/삭제/일괄 변경은 한 문장 update/delete라 이전 값(before)을 모르므로 새로 채움
+- 새로 채우기는 CoalescingTask로 묶음 (요청이 몰려도 한 번에 하나, 끝난 뒤 필요하면 한 번 더)
+- 새로 채우는 동안 온 이벤트는 모아 두었다가 새 통계에 반영한 뒤 교체
+  → 읽는 동안만 학번 -> 칸(Scanned)을 들고 있어서, 이미 읽은 학생이 바뀌었으면 읽은 칸에서 빼고 새 칸에 더함
+  (다 반영하기 전에는 교체하지 않음, 일괄 변경이 오면 어느 학생인지 모르므로 버리고 다시 채움)
+ */
+@Slf4j
+@Component
+public class StudentStatistics {
+    // 나이 칸 (0 ~ MAX_AGE, 범위 밖은 양 끝 칸에 포함)
+    static final int MAX_AGE = 150;
+    
+    private final StudentRepository studentRepository;
+    private final StudentShards shards;
+    private final CoalescingTask rebuildTask;
+    // 응답에 쓰는 통계
+    private volatile Counts current = new Counts();
+    // 새로 채우는 동안 온 이벤트 (채우는 중이 아니면 null), lock으로 보호
+    private final Object lock = new Object();
+    private List<StudentChangedEvent> buffered;
+    
+    public StudentStatistics(StudentRepository studentRepository,
+                             StudentShards shards,
+                             TaskExecutor taskExecutor) {
+        this.studentRepository = studentRepository;
+        this.shards = shards;
+        this.rebuildTask = new CoalescingTask("학생 통계 다시 채우기", taskExecutor, this::rebuild);
+    }
+    
+    // 시작 시 전체 학생으로 통계 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    // DB에서 새로 채우고, 채우는 동안 온 이벤트를 반영한 뒤 교체
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            buffered = new ArrayList<>();
+        }
+        boolean installed = false;
+        try {
+            Counts counts = new Counts();
+            Scanned scanned = new Scanned();
+            shards.readEach(shard -> {
+                try (Stream<StudentDto> students = studentRepository.streamAllDtos()) {
+                    students.forEach(student -> {
+                        counts.count(student.getMajor(), student.getAge(), 1);
+                        scanned.put(student.getStudentId(), student.getMajor(), student.getAge());
+                    });
+                }
+            });
+            // 모인 이벤트를 반영, 마지막 묶음은 lock 안에서 반영하고 바로 교체 (그 사이 이벤트를 놓치지 않도록)
+            while (!installed) {
+                List<StudentChangedEvent> events;
+                synchronized (lock) {
+                    if (buffered.isEmpty()) {
+                        current = counts;
+                        installed = true;
+                        log.info("학생 통계 준비 완료: {}명, 전공 {}개", counts.total(), counts.majors.size());
+                        break;
+                    }
+                    events = buffered;
+                    buffered = new ArrayList<>();
+                }
+                if (!replay(events, counts, scanned)) {
+                    // 일괄 변경은 이벤트가 다시 채우기를 요청해 두었으므로 이번 결과는 버림
+                    return;
+                }
+            }
+        } finally {
+            synchronized (lock) {
+                buffered = null;
+            }
+        }
+    }
+    
+    // 이미 읽은 학생이면 읽은 칸에서 빼고 지금 값으로 다시 더함, 일괄 변경이 있으면 false
+    private boolean replay(List<StudentChangedEvent> events, Counts counts, Scanned scanned) {
+        for (StudentChangedEvent event : events) {
+            if (event.type() == StudentChangedEvent.Type.BULK) {
+                return false;
+            }
+            Long studentId = event.studentId();
+            int index = scanned.indexOf(studentId);
+            if (index >= 0) {
+                counts.count(scanned.majors[index], scanned.ages[index], -1);
+                scanned.remove(index);
+            }
+            StudentDto after = event.type() == StudentChangedEvent.Type.DELETED || event.after() != null
+                    ? event.after()
+                    // 일부 필드만 수정한 경우는 바뀐 값을 모르므로 다시 읽음
+                    : shards.read(shards.shardOf(studentId), () -> studentRepository.findDtoById(studentId)).orElse(null);
+            if (after != null) {
+                counts.count(after.getMajor(), after.getAge(), 1);
+                scanned.put(studentId, after.getMajor(), after.getAge());
+            }
+        }
+        return true;
+    }
+    
+    public StudentStatsDto snapshot() {
+        return current.snapshot();
+    }
+    
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        synchronized (lock) {
+            if (buffered != null) {
+                buffered.add(event);
+                if (event.type() != StudentChangedEvent.Type.BULK) {
+                    // 등록은 지금 통계에도 바로 반영 (교체 전까지 응답용, 새 통계에는 위에서 다시 반영)
+                    if (event.type() == StudentChangedEvent.Type.CREATED) {
+                        current.count(event.after().getMajor(), event.after().getAge(), 1);
+                    }
+                    return;
+                }
+            }
+        }
+        switch (event.type()) {
+            case CREATED -> current.count(event.after().getMajor(), event.after().getAge(), 1);
+            case UPDATED, DELETED, BULK -> rebuildTask.request();
+        }
+    }
+    
+    // 새로 채우는 동안만 쓰는 학번 -> (전공, 나이) (선형 탐사 해시, 교체 후 버림)
+    // 같은 전공 문자열은 하나만 들고 있음
+    private static final class Scanned {
+        private static final long EMPTY = Long.MIN_VALUE;
+        
+        private final Map<String, String> majorNames = new HashMap<>();
+        private long[] ids = newIds(1 << 12);
+        private String[] majors = new String[ids.length];
+        private short[] ages = new short[ids.length];
+        // 사용 중인 칸 수 (지운 칸 포함)
+        private int used;
+        
+        private static long[] newIds(int capacity) {
+            long[] ids = new long[capacity];
+            Arrays.fill(ids, EMPTY);
+            return ids;
+        }
+        
+        private int indexOf(long id) {
+            int mask = ids.length - 1;
+            for (int i = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask; ids[i] != EMPTY; i = (i + 1) & mask) {
+                if (ids[i] == id) {
+                    return majors[i] == null ? -1 : i;
+                }
+            }
+            return -1;
+        }
+        
+        private void put(long id, String major, int age) {
+            if ((used + 1) * 2 > ids.length) {
+                grow();
+            }
+            int mask = ids.length - 1;
+            int i = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+            while (ids[i] != EMPTY && ids[i] != id) {
+                i = (i + 1) & mask;
+            }
+            if (ids[i] == EMPTY) {
+                ids[i] = id;
+                used++;
+            }
+            majors[i] = majorNames.computeIfAbsent(major, name -> name);
+            ages[i] = (short) Math.min(Math.max(age, 0), MAX_AGE);
+        }
+        
+        // 학번은 남겨 두고 값만 지움 (탐사가 끊기지 않도록)
+        private void remove(int index) {
+            majors[index] = null;
+        }
+        
+        private void grow() {
+            long[] oldIds = ids;
+            String[] oldMajors = majors;
+            short[] oldAges = ages;
+            ids = newIds(oldIds.length * 2);
+            majors = new String[ids.length];
+            ages = new short[ids.length];
+            used = 0;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != EMPTY && oldMajors[i] != null) {
+                    put(oldIds[i], oldMajors[i], oldAges[i]);
+                }
+            }
+        }
+    }
+    
+    private static final class Counts {
+        private final ConcurrentHashMap<String, LongAdder> majors = new ConcurrentHashMap<>();
+        private final LongAdder[] ages = new LongAdder[MAX_AGE + 1];
+        
+        private Counts() {
+            for (int i = 0; i < ages.length; i++) {
+                ages[i] = new LongAdder();
+            }
+        }
+        
+        private void count(String major, int age, int delta) {
+            majors.computeIfAbsent(major, name -> new LongAdder()).add(delta);
+            ages[Math.min(Math.max(age, 0), MAX_AGE)].add(delta);
+        }
+        
+        private long total() {
+            long total = 0;
+            for (LongAdder age : ages) {
+                total += age.sum();
+            }
+            return total;
+        }
+        
+        // 칸 수(전공 수 + 나이 칸)만큼만 읽음, 학생 수와 무관
+        private StudentStatsDto snapshot() {
+            Map<String, Long> byMajor = new TreeMap<>();
+            majors.forEach((major, count) -> {
+                long sum = count.sum();
+                if (sum > 0) {
+                    byMajor.put(major, sum);
+                }
+            });
+            Map<Integer, Long> byAge = new TreeMap<>();
+            long total = 0;
+            for (int age = 0; age < ages.length; age++) {
+                long sum = ages[age].sum();
+                if (sum > 0) {
+                    byAge.put(age, sum);
+                    total += sum;
+                }
+            }
+            return new StudentStatsDto(total, byMajor, byAge);
+        }
+    }
+}
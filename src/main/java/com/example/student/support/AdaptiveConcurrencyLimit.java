@@ -0,0 +1,161 @@
+package com.example.student.support;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/*
+응답 시간을 보고 동시 처리 한도를 조절하는 제한기 (AIMD)
+- 처리 중인 요청이 한도 이상이면 대기 없이 바로 거절 (큐에 쌓아 두면 대기 시간만큼 꼬리 지연이 늘어남)
+- 혼잡 판단은 고정 기준이 아니라 "평소보다 얼마나 느려졌나" (기울기)
+  최근 MIN_RTT_WINDOW 동안의 최소 응답 시간을 평소 값으로 보고, 평활 응답 시간(EWMA)이 그 rttTolerance배를 넘으면 혼잡
+  → 원래 빠른 요청이 몇 배 느려진 것도 잡고, 원래 느린 요청 하나가 섞여도 평활값이라 바로 줄이지 않음
+  (최소값은 창마다 새로 잡아서 데이터가 늘어 평소 응답 시간이 바뀌어도 따라감, RTT_FLOOR 밑의 차이는 잡음으로 봄)
+- latencyThreshold는 상한: 한 요청이라도 넘으면 혼잡
+- 혼잡이 아니면: 한도를 쓰고 있을 때만 (처리 중 * 2 >= 한도) 1/한도씩 증가 → 한도만큼 성공하면 +1
+- 혼잡이거나 실패(5xx, 예외): 한도 * backoffRatio로 감소
+  같은 혼잡에 여러 번 줄이지 않도록 마지막으로 줄인 뒤에 시작한 요청만 반영
+- 한도는 minLimit ~ maxLimit 사이
+ */
+public class AdaptiveConcurrencyLimit {
+    // 최소 응답 시간을 새로 잡는 간격
+    static final Duration MIN_RTT_WINDOW = Duration.ofSeconds(30);
+    // 평소 응답 시간의 하한 (이보다 짧은 차이는 기울기로 보지 않음)
+    static final Duration RTT_FLOOR = Duration.ofMillis(1);
+    // 평활 응답 시간에 새 응답 시간을 반영하는 비율 (TCP SRTT와 같은 1/8)
+    private static final double SMOOTHING = 0.125;
+    
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 소수점까지 보관 (증가는 1/한도씩)
+    private volatile double limit;
+    private long lastDecreaseNanos;
+    // lock으로 보호: 이번 창의 최소 응답 시간 (첫 응답 전에는 0), 창이 끝나는 시각, 평활 응답 시간
+    private long minRttNanos;
+    private long minRttExpiresNanos;
+    private double smoothedRttNanos;
+    
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                    double rttTolerance, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, rttTolerance, backoffRatio, System::nanoTime);
+    }
+    
+    // clock: 응답 시간 계산용 (테스트에서 시간을 직접 넘길 때)
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                    double rttTolerance, double backoffRatio, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("한도는 1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다.");
+        }
+        if (rttTolerance <= 1) {
+            throw new IllegalArgumentException("rttTolerance는 1보다 커야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = clock.getAsLong();
+    }
+    
+    // 한도 안이면 허가, 넘으면 empty (바로 거절)
+    public Optional<Permit> tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(clock.getAsLong()));
+            }
+        }
+    }
+    
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getInflight() {
+        return inflight.get();
+    }
+    
+    // 한도가 최대치인데도 넘치는지 (서버가 느려서가 아니라 요청 자체가 많음)
+    public boolean isAtMaxLimit() {
+        return getLimit() >= maxLimit;
+    }
+    
+    private void onSample(long startNanos, boolean dropped) {
+        long now = clock.getAsLong();
+        int inflightAtEnd = inflight.getAndDecrement();
+        lock.lock();
+        try {
+            // 실패한 요청의 응답 시간은 평소 값에 넣지 않음 (빨리 실패한 요청이 최소값을 낮추지 않도록)
+            if (dropped || isCongested(now, now - startNanos)) {
+                if (startNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                }
+            } else if (inflightAtEnd * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // 응답 시간을 반영하고 혼잡인지 판단 (lock 안에서 호출)
+    private boolean isCongested(long now, long rttNanos) {
+        if (minRttNanos == 0 || rttNanos < minRttNanos || now - minRttExpiresNanos >= 0) {
+            minRttNanos = Math.max(rttNanos, 1);
+            minRttExpiresNanos = now + MIN_RTT_WINDOW.toNanos();
+        }
+        smoothedRttNanos = smoothedRttNanos == 0 ? rttNanos
+                : smoothedRttNanos + (rttNanos - smoothedRttNanos) * SMOOTHING;
+        long baselineNanos = Math.max(minRttNanos, RTT_FLOOR.toNanos());
+        return rttNanos > latencyThresholdNanos || smoothedRttNanos > baselineNanos * rttTolerance;
+    }
+    
+    // 허가 하나 (결과는 한 번만 반영)
+    public final class Permit {
+        private final long startNanos;
+        private final AtomicInteger state = new AtomicInteger();
+        
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+        
+        // 정상 응답: 응답 시간으로 한도 조절
+        public void success() {
+            if (state.compareAndSet(0, 1)) {
+                onSample(startNanos, false);
+            }
+        }
+        
+        // 실패 (DB 타임아웃 등): 한도 감소
+        public void dropped() {
+            if (state.compareAndSet(0, 1)) {
+                onSample(startNanos, true);
+            }
+        }
+        
+        // 응답 시간을 판단에 쓸 수 없음 (스트리밍 등): 허가만 반납
+        public void ignore() {
+            if (state.compareAndSet(0, 1)) {
+                inflight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.student.support;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+여러 번 요청해도 한 번씩만 실행하는 백그라운드 작업 (다시 채우기 등)
+- 실행 중이 아니면 실행기에 하나만 넣고, 실행 중에 온 요청은 "한 번 더" 표시만 남김
+  → 요청이 몰려도 실행기에 쌓이는 작업은 최대 하나, 끝난 뒤 표시가 있으면 한 번 더 실행
+- 작업에서 난 예외는 로그만 남기고 다음 요청은 그대로 받음
+ */
+@Slf4j
+public class CoalescingTask {
+    private final String name;
+    private final TaskExecutor executor;
+    private final Runnable task;
+    // 실행기에 넣었거나 실행 중
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    // 실행을 시작한 뒤에 다시 요청이 왔음
+    private final AtomicBoolean pending = new AtomicBoolean();
+    
+    public CoalescingTask(String name, TaskExecutor executor, Runnable task) {
+        this.name = name;
+        this.executor = executor;
+        this.task = task;
+    }
+    
+    public void request() {
+        pending.set(true);
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            scheduled.set(false);
+            log.warn("{} 작업을 실행기에 넣지 못했습니다. 다음 요청 때 다시 시도합니다.", name, e);
+        }
+    }
+    
+    private void drain() {
+        try {
+            while (pending.getAndSet(false)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("{} 작업이 실패했습니다.", name, e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // 반복을 끝낸 뒤 scheduled를 내리기 전에 온 요청
+        if (pending.get()) {
+            request();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.student.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+카운팅 블룸 필터
+- 일반 블룸 필터는 삭제가 안 돼서 칸마다 4비트 카운터를 둠 (long 하나에 16칸)
+- 카운터는 CAS로 갱신해서 락 없이 동시에 사용 가능
+- 15에 도달한 카운터는 더 이상 증감하지 않음 (거짓 음성 방지)
+- mightContain이 false면 확실히 없음, true면 있을 수도 있음
+ */
+public class CountingBloomFilter {
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long MAX_COUNT = 0xFL;
+    
+    private final AtomicLongArray counters;
+    private final int size;      // 카운터 수 (m)
+    private final int hashCount; // 해시 함수 수 (k)
+    
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.size = (int) Math.min(m, Integer.MAX_VALUE - COUNTERS_PER_WORD);
+        this.hashCount = Math.max(1, (int) Math.round((double) size / expectedInsertions * Math.log(2)));
+        this.counters = new AtomicLongArray((size + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+    
+    public void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            increment(index(h1, h2, i));
+        }
+    }
+    
+    public void remove(long hash) {
+        // 없는 값을 지우면 다른 값의 카운터가 줄어들 수 있으므로 먼저 확인
+        if (!mightContain(hash)) {
+            return;
+        }
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            decrement(index(h1, h2, i));
+        }
+    }
+    
+    public boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (count(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // 모든 카운터 초기화
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0L);
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public int hashCount() {
+        return hashCount;
+    }
+    
+    // 이중 해싱 (Kirsch-Mitzenmacher): h1 + i * h2
+    private int index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % size;
+    }
+    
+    private long count(int index) {
+        int shift = (index % COUNTERS_PER_WORD) * 4;
+        return (counters.get(index / COUNTERS_PER_WORD) >>> shift) & MAX_COUNT;
+    }
+    
+    private void increment(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = counters.get(word);
+            if (((current >>> shift) & MAX_COUNT) == MAX_COUNT) {
+                return;
+            }
+            if (counters.compareAndSet(word, current, current + (1L << shift))) {
+                return;
+            }
+        }
+    }
+    
+    private void decrement(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = (index % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = counters.get(word);
+            long count = (current >>> shift) & MAX_COUNT;
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+            if (counters.compareAndSet(word, current, current - (1L << shift))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.student.support;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/*
+Idempotency-Key 저장소 (키별 처리 결과를 일정 시간 보관)
+- 처음 온 요청(owner)이 키를 차지하고 처리, 끝나면 결과를 저장 (complete) 하거나 포기 (abandon)
+- 같은 키로 다시 오면 저장된 결과를 그대로 돌려줌 (REPLAY)
+- 처리 중에 같은 키로 오면 owner가 끝날 때까지 waitTimeout 동안 대기 후 결과를 받음
+  owner가 포기하면 대기하던 요청 중 하나가 다시 키를 차지함
+- 키를 해시로 나눈 구역(stripe)마다 잠금과 LinkedHashMap을 따로 둠 → 서로 다른 키끼리는 거의 경합 없음
+- 보관 기간(ttl)은 키를 차지한 시점부터, 구역마다 maxEntries / stripes 건까지 (넘으면 오래된 것부터 제거)
+  → 삽입 순서 = 만료 순서라서 맨 앞부터만 보면 됨
+ */
+public class IdempotencyStore<V> {
+    private final Stripe<V>[] stripes;
+    private final int maxEntriesPerStripe;
+    private final long ttlNanos;
+    private final long waitTimeoutNanos;
+    private final LongSupplier clock;
+    
+    public IdempotencyStore(int stripes, int maxEntries, Duration ttl, Duration waitTimeout) {
+        this(stripes, maxEntries, ttl, waitTimeout, System::nanoTime);
+    }
+    
+    // clock: 만료 계산용 (테스트에서 시간을 직접 넘길 때)
+    @SuppressWarnings("unchecked")
+    public IdempotencyStore(int stripes, int maxEntries, Duration ttl, Duration waitTimeout, LongSupplier clock) {
+        if (stripes <= 0 || maxEntries < stripes) {
+            throw new IllegalArgumentException("stripes는 1 이상, maxEntries는 stripes 이상이어야 합니다.");
+        }
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe<>();
+        }
+        this.maxEntriesPerStripe = maxEntries / stripes;
+        this.ttlNanos = ttl.toNanos();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.clock = clock;
+    }
+    
+    // 키 차지 또는 저장된 결과 조회
+    // fingerprint: 요청 내용 식별값 (같은 키인데 다르면 MISMATCH)
+    public Claim<V> claim(String key, String fingerprint) throws InterruptedException {
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        Stripe<V> stripe = stripeFor(key);
+        while (true) {
+            Entry<V> entry;
+            stripe.lock.lock();
+            try {
+                long now = clock.getAsLong();
+                stripe.evictExpired(now, ttlNanos);
+                entry = stripe.entries.get(key);
+                if (entry == null) {
+                    entry = new Entry<>(fingerprint, now);
+                    stripe.entries.put(key, entry);
+                    stripe.evictOverflow(maxEntriesPerStripe);
+                    return new Claim<>(Status.OWNER, null, key, entry, this);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (!entry.fingerprint.equals(fingerprint)) {
+                return new Claim<>(Status.MISMATCH, null, key, null, this);
+            }
+            // 잠금 밖에서 대기 (같은 구역의 다른 키는 계속 처리)
+            V value;
+            try {
+                value = entry.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return new Claim<>(Status.IN_PROGRESS, null, key, null, this);
+            } catch (ExecutionException e) {
+                // complete/abandon만 있으므로 예외로 끝나지 않음
+                throw new IllegalStateException(e.getCause());
+            }
+            if (value != null) {
+                return new Claim<>(Status.REPLAY, value, key, null, this);
+            }
+            // owner가 포기함 → 다시 차지 시도
+        }
+    }
+    
+    // 보관 중인 키 수 (처리 중 포함)
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+    
+    private Stripe<V> stripeFor(String key) {
+        int hash = key.hashCode();
+        // 상위 비트도 섞어서 구역 선택
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+    
+    private void remove(String key, Entry<V> entry) {
+        Stripe<V> stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(key, entry);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    public enum Status {
+        OWNER,       // 키를 차지함 → 처리 후 complete 또는 abandon
+        REPLAY,      // 이미 처리된 결과 (value)
+        IN_PROGRESS, // 다른 요청이 처리 중이고 waitTimeout 안에 끝나지 않음
+        MISMATCH     // 같은 키로 다른 내용의 요청
+    }
+    
+    public static final class Claim<V> {
+        private final Status status;
+        private final V value;
+        private final String key;
+        private final Entry<V> entry;
+        private final IdempotencyStore<V> store;
+        
+        private Claim(Status status, V value, String key, Entry<V> entry, IdempotencyStore<V> store) {
+            this.status = status;
+            this.value = value;
+            this.key = key;
+            this.entry = entry;
+            this.store = store;
+        }
+        
+        public Status status() {
+            return status;
+        }
+        
+        // REPLAY일 때 저장된 결과
+        public V value() {
+            return value;
+        }
+        
+        // owner: 결과 저장, 대기 중인 요청에도 전달
+        public void complete(V result) {
+            requireOwner();
+            entry.result.complete(result);
+        }
+        
+        // owner: 결과를 남기지 않음 (다음 요청이 다시 처리)
+        public void abandon() {
+            requireOwner();
+            store.remove(key, entry);
+            entry.result.complete(null);
+        }
+        
+        private void requireOwner() {
+            if (status != Status.OWNER) {
+                throw new IllegalStateException("키를 차지한 요청만 결과를 정할 수 있습니다.");
+            }
+        }
+    }
+    
+    // 처리 결과 (null로 끝나면 owner가 포기)
+    private static final class Entry<V> {
+        private final String fingerprint;
+        private final long claimedAt;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        
+        private Entry(String fingerprint, long claimedAt) {
+            this.fingerprint = fingerprint;
+            this.claimedAt = claimedAt;
+        }
+    }
+    
+    private static final class Stripe<V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        // 삽입(차지한) 순서
+        private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>();
+        
+        private void evictExpired(long now, long ttlNanos) {
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext() && now - iterator.next().claimedAt >= ttlNanos) {
+                iterator.remove();
+            }
+        }
+        
+        // 처리 중인 키가 밀려나도 그 요청의 대기자는 결과를 그대로 받음 (이후 재시도만 다시 처리됨)
+        private void evictOverflow(int maxEntries) {
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
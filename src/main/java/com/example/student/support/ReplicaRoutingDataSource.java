@@ -0,0 +1,242 @@
+package com.example.student.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+읽기 전용 트랜잭션은 복제본, 나머지는 원본으로 보내는 DataSource
+- 복제본은 라운드 로빈으로 고름
+- 복제본 연결이 실패하면 retryInterval 동안 제외하고 다음 복제본, 모두 안 되면 원본으로
+- 실제로 쓴(insert/update/delete/merge 문장을 실행한) 트랜잭션이 커밋된 뒤 readYourWritesWindow 동안은
+  그 클라이언트의 읽기 전용만 원본으로 (복제 지연 대비, 다른 클라이언트의 읽기는 그대로 복제본)
+  클라이언트 구분: 요청 중이면 커밋 시각을 쿠키와 응답 헤더(X-Last-Write)로 돌려주고, 다음 요청에서 둘 중 하나로 받음
+  요청 밖(백그라운드 작업 등)에서는 스레드 단위
+- 트랜잭션의 readOnly 여부는 커넥션을 실제로 꺼낼 때 판단하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    // 마지막 쓰기 커밋 시각 (epoch 밀리초)을 주고받는 쿠키, 헤더, 요청 속성
+    public static final String LAST_WRITE_COOKIE = "student-last-write";
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+    private static final String LAST_WRITE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".lastWrite";
+    // 앞쪽 주석(/* */)은 건너뛰고 첫 키워드로 판단
+    private static final Pattern WRITE_SQL = Pattern.compile(
+            "^\\s*(/\\*.*?\\*/\\s*)*(insert|update|delete|merge|replace)\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long readYourWritesMillis;
+    private final long retryIntervalNanos;
+    private final AtomicInteger cursor = new AtomicInteger();
+    // 요청 밖에서 쓴 스레드의 마지막 쓰기 커밋 시각
+    private final ThreadLocal<Long> threadLastWrite = new ThreadLocal<>();
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration readYourWritesWindow, Duration retryInterval) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+    
+    private Connection route(Connector connector) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection connection = connector.connect(primary);
+            return readYourWritesMillis > 0 ? trackWrites(connection) : connection;
+        }
+        if (recentlyWritten()) {
+            return connector.connect(primary);
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(cursor.getAndIncrement(), replicas.size()));
+            if (!replica.available()) {
+                continue;
+            }
+            try {
+                return connector.connect(replica.dataSource);
+            } catch (SQLException e) {
+                replica.downUntilNanos = System.nanoTime() + retryIntervalNanos;
+                log.warn("복제본 연결 실패, {}ms 동안 제외: {}", retryIntervalNanos / 1_000_000, e.getMessage());
+            }
+        }
+        // 쓸 수 있는 복제본이 없으면 원본에서 읽음
+        return connector.connect(primary);
+    }
+    
+    // 지금 클라이언트가 readYourWritesWindow 안에 쓴 적이 있음 (미래 시각은 무시)
+    private boolean recentlyWritten() {
+        if (readYourWritesMillis <= 0) {
+            return false;
+        }
+        Long lastWrite = lastWriteMillis();
+        if (lastWrite == null) {
+            return false;
+        }
+        long elapsed = System.currentTimeMillis() - lastWrite;
+        return elapsed >= 0 && elapsed < readYourWritesMillis;
+    }
+    
+    // 같은 요청에서 쓴 시각 → 헤더 → 쿠키 순, 요청 밖이면 스레드
+    private Long lastWriteMillis() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return threadLastWrite.get();
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Long lastWrite) {
+            return lastWrite;
+        }
+        String value = request.getHeader(LAST_WRITE_HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    // 쓰기가 커밋된 시각을 지금 클라이언트에 남김
+    private void recordWrite() {
+        long now = System.currentTimeMillis();
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            threadLastWrite.set(now);
+            return;
+        }
+        attributes.getRequest().setAttribute(LAST_WRITE_ATTRIBUTE, now);
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(now));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (readYourWritesMillis + 999) / 1000));
+        response.addCookie(cookie);
+        response.setHeader(LAST_WRITE_HEADER, Long.toString(now));
+    }
+    
+    // 원본 커넥션에서 쓰기 문장을 실행하면 (트랜잭션이면 커밋 뒤, 아니면 바로) 쓴 시각을 남기도록 감쌈
+    // 쓰기 트랜잭션이라도 조회만 했으면 남기지 않음
+    private Connection trackWrites(Connection connection) {
+        WriteTracker tracker = new WriteTracker();
+        return proxy(Connection.class, connection, (method, args) -> {
+            if (method.getName().startsWith("prepare")) {
+                tracker.check(args);
+            }
+        }, tracker);
+    }
+    
+    private final class WriteTracker {
+        private boolean written;
+        
+        private void check(Object[] args) {
+            if (written || args == null || !(args[0] instanceof String sql) || !WRITE_SQL.matcher(sql).find()) {
+                return;
+            }
+            written = true;
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                recordWrite();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite();
+                }
+            });
+        }
+    }
+    
+    // 호출 전에 before를 실행하고, 만든 Statement(PreparedStatement 제외)도 SQL을 받는 메서드를 확인하도록 감쌈
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, BiConsumer<Method, Object[]> before, WriteTracker tracker) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            before.accept(method, args);
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)
+                    && method.getReturnType() == Statement.class) {
+                return proxy(Statement.class, statement, (statementMethod, statementArgs) -> {
+                    String name = statementMethod.getName();
+                    if (name.startsWith("execute") || name.equals("addBatch")) {
+                        tracker.check(statementArgs);
+                    }
+                }, tracker);
+            }
+            return result;
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+    
+    // 복제본 풀 정리 (원본은 따로 빈으로 관리)
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Connector {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+    
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile long downUntilNanos;
+        
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.downUntilNanos = System.nanoTime();
+        }
+        
+        private boolean available() {
+            return System.nanoTime() - downUntilNanos >= 0;
+        }
+    }
+}
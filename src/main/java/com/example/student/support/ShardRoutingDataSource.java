@@ -0,0 +1,85 @@
+package com.example.student.support;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/*
+샤드 DataSource 라우팅 (지금 스레드에 지정한 샤드에서 커넥션을 꺼냄)
+- 샤드 지정/해제는 StudentShards가 하고, 지정하지 않은 스레드는 0번 샤드 (시작 시 스키마 생성 등)
+- 샤드는 커넥션을 실제로 꺼낼 때 보므로 LazyConnectionDataSourceProxy로 감싸서 사용
+  → 트랜잭션을 시작한 뒤라도 첫 쿼리 전에만 지정하면 됨
+ */
+public class ShardRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+    
+    private final List<DataSource> shards;
+    
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        if (shards.isEmpty() || shards.size() > SnowflakeIdGenerator.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드는 1개 이상 " + SnowflakeIdGenerator.MAX_SHARDS + "개 이하여야 합니다.");
+        }
+        this.shards = List.copyOf(shards);
+    }
+    
+    // 지금 스레드의 샤드 (지정하지 않았으면 0)
+    public static int currentShard() {
+        Integer shard = CURRENT.get();
+        return shard == null ? 0 : shard;
+    }
+    
+    // 샤드를 지정하고 이전 값을 반환 (끝나면 restore로 되돌림)
+    public static Integer bind(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+    
+    public static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+    
+    public int size() {
+        return shards.size();
+    }
+    
+    // 샤드 하나의 DataSource (라우팅 없이 그 샤드에 직접 연결할 때)
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return current().getConnection();
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return current().getConnection(username, password);
+    }
+    
+    private DataSource current() {
+        int shard = currentShard();
+        if (shard >= shards.size()) {
+            throw new IllegalStateException("없는 샤드입니다. shard=" + shard + ", 샤드 수=" + shards.size());
+        }
+        return shards.get(shard);
+    }
+    
+    // 0번 샤드 풀은 따로 빈으로 관리
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards.subList(1, shards.size())) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.student.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+같은 key에 대한 동시 로딩을 하나로 합침 (single-flight)
+- 먼저 들어온 요청(leader)만 loader를 실행하고, 그동안 들어온 요청(follower)은 결과를 같이 받음
+- 진행 중인 로딩은 ConcurrentHashMap에만 있다가 끝나면 바로 제거 (결과를 캐시하지 않음)
+- 예외도 그대로 follower에게 전달
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+    
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            followers.increment();
+            return await(running);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+    
+    // loader를 직접 실행한 횟수
+    public long leaderCount() {
+        return leaders.sum();
+    }
+    
+    // 다른 요청의 결과를 같이 받은 횟수
+    public long followerCount() {
+        return followers.sum();
+    }
+    
+    // 현재 진행 중인 로딩 수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+    
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
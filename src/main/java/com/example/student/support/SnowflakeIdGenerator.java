@@ -0,0 +1,68 @@
+package com.example.student.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+샤드 번호가 들어간 64비트 ID (Snowflake 방식)
+[0][샤드 8비트][시각 41비트 (2024-01-01부터 ms)][노드 4비트][순번 10비트]
+- 샤드 번호가 맨 앞이라 ID 순서 = (샤드, 시각) 순서
+  → 샤드를 0번부터 차례로 읽으면 전체가 ID 순 (학번 커서 페이지, 목록 스냅샷이 그대로 동작)
+- 같은 샤드에 여러 인스턴스가 쓰면 노드 번호를 다르게 줘야 같은 ms에 같은 ID가 나오지 않음
+- (시각, 순번)을 하나의 카운터로 올림
+  같은 ms에 순번(1024개)을 다 쓰면 다음 ms 값을 당겨 쓰고, 시계가 뒤로 가도 마지막 값에서 이어감 (항상 증가)
+- 샤드를 쓰기 전에 만든 작은 ID(시퀀스)는 샤드 비트가 0 → 0번 샤드
+ */
+public class SnowflakeIdGenerator {
+    public static final int SHARD_BITS = 8;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int NODE_BITS = 4;
+    public static final int MAX_NODES = 1 << NODE_BITS;
+    private static final int TIMESTAMP_BITS = 41;
+    private static final int SEQUENCE_BITS = 10;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = TIMESTAMP_SHIFT + TIMESTAMP_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    
+    private final long node;
+    private final LongSupplier currentMillis;
+    // 마지막으로 쓴 (시각 << SEQUENCE_BITS | 순번)
+    private final AtomicLong lastTick = new AtomicLong();
+    
+    public SnowflakeIdGenerator(int node) {
+        this(node, System::currentTimeMillis);
+    }
+    
+    // currentMillis: 테스트에서 시각을 직접 넘길 때
+    public SnowflakeIdGenerator(int node, LongSupplier currentMillis) {
+        if (node < 0 || node >= MAX_NODES) {
+            throw new IllegalArgumentException("노드 번호는 0 이상 " + MAX_NODES + " 미만이어야 합니다. node=" + node);
+        }
+        this.node = node;
+        this.currentMillis = currentMillis;
+    }
+    
+    public long next(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 번호는 0 이상 " + MAX_SHARDS + " 미만이어야 합니다. shard=" + shard);
+        }
+        long now = (currentMillis.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long tick = lastTick.updateAndGet(last -> Math.max(last + 1, now));
+        long timestamp = tick >>> SEQUENCE_BITS;
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("ID 시각 범위를 넘었습니다.");
+        }
+        return ((long) shard << SHARD_SHIFT)
+                | (timestamp << TIMESTAMP_SHIFT)
+                | (node << SEQUENCE_BITS)
+                | (tick & SEQUENCE_MASK);
+    }
+    
+    // ID에 들어 있는 샤드 번호 (음수 ID는 MAX_SHARDS 이상이 나옴)
+    public static int shardOf(long id) {
+        return (int) (id >>> SHARD_SHIFT);
+    }
+}
@@ -3,8 +3,32 @@ CREATE DATABASE student;
 USE student;
 
 CREATE TABLE student (
-	student_id INT AUTO_INCREMENT PRIMARY KEY NOT NULL COMMENT '학번',
+	student_id BIGINT PRIMARY KEY NOT NULL COMMENT '학번 (샤드 1개면 student_seq, 샤딩하면 샤드 번호 + 시각 + 노드 + 순번, 앱에서 생성)',
     student_name VARCHAR(20) NOT NULL COMMENT '이름',
     age INT NOT NULL COMMENT '나이',
-    major VARCHAR(20) NOT NULL COMMENT '전공'
-);
\ No newline at end of file
+    major VARCHAR(20) NOT NULL COMMENT '전공',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '버전 (낙관적 잠금, ETag)',
+    UNIQUE KEY uk_student_name_age_major (student_name, age, major),
+    -- 검색: 전공 (+ 나이 범위)
+    -- 나이만으로 찾는 경우는 인덱스를 두지 않음 (학번 순 페이지라서 PK 순서로 읽다가 limit에서 끝나는 쪽이 더 빠름)
+    KEY idx_student_major_age (major, age)
+);
+
+-- 학번 채번용 (샤드 1개일 때 Hibernate pooled 시퀀스, 50개씩 할당, 샤딩하면 쓰지 않음)
+CREATE TABLE student_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO student_seq VALUES (1);
+
+-- 샤드 사이 (이름, 나이, 전공) 유니크용 키 목록 (샤딩할 때 0번 샤드에만, StudentKeyDirectory)
+-- 학생을 바꾸는 문장마다 같은 조건으로 함께 바뀜
+CREATE TABLE student_key (
+    student_id BIGINT PRIMARY KEY NOT NULL COMMENT '학번',
+    student_name VARCHAR(20) NOT NULL COMMENT '이름',
+    age INT NOT NULL COMMENT '나이',
+    major VARCHAR(20) NOT NULL COMMENT '전공',
+    UNIQUE KEY uk_student_key_name_age_major (student_name, age, major)
+);
+-- 샤딩을 켜기 전에 0번 샤드에 있던 학생을 한 번 채움
+-- INSERT INTO student_key SELECT student_id, student_name, age, major FROM student
+--     WHERE student_id NOT IN (SELECT student_id FROM student_key);
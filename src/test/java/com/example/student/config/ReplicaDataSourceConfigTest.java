@@ -0,0 +1,168 @@
+package com.example.student.config;
+
+import com.example.student.service.StudentService;
+import com.example.student.support.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import jakarta.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        // 원본은 테스트 기본 DB(student), 복제본은 별도 메모리 DB + 접속 안 되는 DB
+        "student.datasource.replica-urls=" + ReplicaDataSourceConfigTest.REPLICA_URL + "," + ReplicaDataSourceConfigTest.BROKEN_URL,
+        "student.datasource.read-your-writes-window=200ms",
+        "student.datasource.replica-retry-interval=1m"
+})
+public class ReplicaDataSourceConfigTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String BROKEN_URL = "jdbc:h2:mem:broken;IFEXISTS=TRUE";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private StudentService studentService;
+    
+    // 복제본에는 DDL이 가지 않으므로 컨텍스트가 뜨기 전에(시작 시 블룸 필터가 복제본에서 읽음) 직접 테이블을 만듦
+    static {
+        try {
+            replica("create table if not exists student (student_id bigint primary key, "
+                    + "student_name varchar(255) not null, age int not null, major varchar(255) not null, "
+                    + "version bigint not null default 0)");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    // 복제본에만 있는 학생
+    @BeforeEach
+    public void setUpReplica() throws Exception {
+        replica("delete from student", "insert into student values (-1, '복제본', 20, '경영학과', 0)");
+    }
+    
+    private static void replica(String... sqls) throws Exception {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본으로 간다.")
+    public void routingTest() throws Exception {
+        //given: 이전 쓰기의 read-your-writes 구간이 지나도록 대기
+        Thread.sleep(300);
+        
+        //when: 읽기 전용 트랜잭션에서 조회
+        //then: 복제본에서 읽음 (JPA 조회는 원본에는 없는 학생으로 확인)
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica");
+        assertThat(studentService.findStudent(-1L).getStudentName()).isEqualTo("복제본");
+        
+        //when: 쓰기 트랜잭션에서 조회
+        //then: 원본에서 읽음
+        assertThat(currentDatabase(false)).isEqualToIgnoringCase("student");
+    }
+    
+    @Test
+    @DisplayName("접속이 안 되는 복제본은 건너뛴다.")
+    public void replicaFallbackTest() throws Exception {
+        //given: 이전 쓰기의 read-your-writes 구간이 지나도록 대기
+        Thread.sleep(300);
+        
+        //when: 라운드 로빈이 두 복제본을 모두 거치도록 여러 번 조회
+        //then: 접속 안 되는 복제본 대신 정상 복제본에서 읽음
+        for (int i = 0; i < 4; i++) {
+            assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica");
+        }
+    }
+    
+    @Test
+    @DisplayName("쓰기 커밋 직후에는 쓴 클라이언트의 읽기 전용 트랜잭션만 원본으로 간다.")
+    public void readYourWritesTest() throws Exception {
+        //given: 한 클라이언트의 요청에서 원본에 쓰기 트랜잭션 커밋
+        Thread.sleep(300);
+        MockHttpServletResponse writeResponse = inRequest(new MockHttpServletRequest(), () -> {
+            TransactionTemplate write = new TransactionTemplate(transactionManager);
+            write.executeWithoutResult(status -> jdbcTemplate.update("delete from student where student_id = -1"));
+            
+            //when & then: 같은 요청에서 바로 읽으면 원본
+            assertThat(currentDatabase(true)).isEqualToIgnoringCase("student");
+        });
+        Cookie cookie = writeResponse.getCookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(writeResponse.getHeader(ReplicaRoutingDataSource.LAST_WRITE_HEADER)).isEqualTo(cookie.getValue());
+        
+        //when & then: 같은 클라이언트의 다음 요청(쿠키 또는 헤더)은 원본
+        MockHttpServletRequest withCookie = new MockHttpServletRequest();
+        withCookie.setCookies(cookie);
+        inRequest(withCookie, () -> assertThat(currentDatabase(true)).isEqualToIgnoringCase("student"));
+        MockHttpServletRequest withHeader = new MockHttpServletRequest();
+        withHeader.addHeader(ReplicaRoutingDataSource.LAST_WRITE_HEADER, cookie.getValue());
+        inRequest(withHeader, () -> assertThat(currentDatabase(true)).isEqualToIgnoringCase("student"));
+        
+        //when & then: 다른 클라이언트, 요청 밖의 스레드는 그대로 복제본
+        inRequest(new MockHttpServletRequest(), () -> assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica"));
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica");
+        
+        //when & then: 구간이 지나면 같은 클라이언트도 다시 복제본
+        Thread.sleep(300);
+        inRequest(withCookie, () -> assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica"));
+    }
+    
+    @Test
+    @DisplayName("쓰기 트랜잭션이라도 조회만 했으면 이후 읽기는 복제본으로 간다.")
+    public void readOnlyWriteTransactionTest() throws Exception {
+        //given: 이전 쓰기의 read-your-writes 구간이 지나도록 대기
+        Thread.sleep(300);
+        
+        //when: 요청 안에서 쓰기 트랜잭션으로 조회만 하고 커밋
+        MockHttpServletResponse response = inRequest(new MockHttpServletRequest(), () -> {
+            assertThat(currentDatabase(false)).isEqualToIgnoringCase("student");
+            
+            //then: 같은 요청의 읽기도 복제본
+            assertThat(currentDatabase(true)).isEqualToIgnoringCase("replica");
+        });
+        
+        //then: 쓴 시각을 돌려주지 않음
+        assertThat(response.getCookie(ReplicaRoutingDataSource.LAST_WRITE_COOKIE)).isNull();
+    }
+    
+    // 요청 하나를 흉내 내서 실행하고 응답을 돌려줌
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request, Runnable body) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            body.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        return response;
+    }
+    
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.student.config;
+
+import com.example.student.domain.StudentKey;
+import com.example.student.dto.StudentBulkDeleteDto;
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentMajorChangeDto;
+import com.example.student.dto.StudentPageDto;
+import com.example.student.dto.StudentPatchDto;
+import com.example.student.dto.StudentSearchCondition;
+import com.example.student.exception.DuplicateStudentException;
+import com.example.student.service.StudentKeyDirectory;
+import com.example.student.service.StudentService;
+import com.example.student.service.StudentShards;
+import com.example.student.support.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        // 0번 샤드는 테스트 기본 DB(student), 1, 2번 샤드는 별도 메모리 DB
+        "student.datasource.shard-urls=" + ShardDataSourceConfigTest.SHARD1_URL + "," + ShardDataSourceConfigTest.SHARD2_URL,
+        // 동시 읽기 스레드 1개, 대기열 1개 → 3개 샤드를 읽으면 하나는 요청 스레드에서 실행
+        "student.datasource.shard-query-threads=1",
+        "student.datasource.shard-query-queue=1",
+        // 샤딩하면 학번 노드 번호 필수
+        "spring.jpa.properties.student.id.node-id=1"
+})
+public class ShardDataSourceConfigTest {
+    static final String SHARD0_URL = "jdbc:h2:mem:student;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD1_URL = "jdbc:h2:mem:shard1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD2_URL = "jdbc:h2:mem:shard2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final List<String> SHARD_URLS = List.of(SHARD0_URL, SHARD1_URL, SHARD2_URL);
+    
+    @Autowired
+    private StudentService studentService;
+    
+    @Autowired
+    private StudentShards shards;
+    
+    // 1번부터는 DDL이 가지 않으므로 컨텍스트가 뜨기 전에(시작 시 블룸 필터가 모든 샤드에서 읽음) 직접 테이블을 만듦
+    static {
+        try {
+            for (String url : List.of(SHARD1_URL, SHARD2_URL)) {
+                execute(url, "create table if not exists student (student_id bigint primary key, "
+                        + "student_name varchar(255) not null, age int not null, major varchar(255) not null, "
+                        + "version bigint not null default 0, "
+                        + "constraint uk_student_name_age_major unique (student_name, age, major))");
+            }
+            // 샤드 사이 중복 확인용 키 목록 (엔티티가 아니라서 0번 샤드에도 직접 만듦)
+            execute(SHARD0_URL, "create table if not exists student_key (student_id bigint primary key, "
+                    + "student_name varchar(255) not null, age int not null, major varchar(255) not null, "
+                    + "constraint " + StudentKeyDirectory.UNIQUE_KEY + " unique (student_name, age, major))");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @AfterEach
+    public void cleanUp() throws Exception {
+        for (String url : SHARD_URLS) {
+            execute(url, "delete from student");
+        }
+        execute(SHARD0_URL, "delete from student_key");
+    }
+    
+    private static void execute(String url, String... sqls) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+    
+    private static int count(String url) throws Exception {
+        return count(url, "student");
+    }
+    
+    private static int count(String url, String table) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+    
+    // 학생 30명 등록 (전공 3개)
+    private List<Long> addStudents() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ids.add(studentService.addStudent(StudentDto.builder()
+                    .studentName("학생" + i).age(20 + i % 5).major(i % 3 == 0 ? "컴퓨터공학과" : "경영학과").build()));
+        }
+        return ids;
+    }
+    
+    @Test
+    @DisplayName("새 학생은 (이름, 나이, 전공) 해시로 정한 샤드에 저장되고 학번에 샤드 번호가 들어간다.")
+    public void routingTest() throws Exception {
+        //given & when
+        List<Long> ids = addStudents();
+        
+        //then: 학번의 샤드 번호 = 키 해시로 정한 샤드
+        assertThat(shards.count()).isEqualTo(3);
+        for (int i = 0; i < ids.size(); i++) {
+            StudentDto found = studentService.findStudent(ids.get(i));
+            assertThat(found.getStudentName()).isEqualTo("학생" + i);
+            assertThat(SnowflakeIdGenerator.shardOf(ids.get(i))).isEqualTo(shards.shardFor(StudentKey.of(found)));
+        }
+        
+        //then: 각 샤드 DB에 학번의 샤드 번호대로 나뉘어 저장됨
+        for (int shard = 0; shard < SHARD_URLS.size(); shard++) {
+            int target = shard;
+            long expected = ids.stream().filter(id -> SnowflakeIdGenerator.shardOf(id) == target).count();
+            assertThat(expected).isPositive();
+            assertThat(count(SHARD_URLS.get(shard))).isEqualTo(expected);
+        }
+        
+        //then: 다른 샤드에 있는 학생과 같은 학생은 등록 실패
+        assertThatThrownBy(() -> studentService.addStudent(StudentDto.builder()
+                .studentName("학생1").age(21).major("경영학과").build()))
+                .isInstanceOf(DuplicateStudentException.class);
+    }
+    
+    @Test
+    @DisplayName("수정/일부 수정으로 다른 샤드에 있는 학생과 같아지면 중복 예외가 발생한다.")
+    public void crossShardUpdateDuplicateTest() {
+        //given: 0번 학생과 전공이 같고(3의 배수 번째) 다른 샤드에 있는 학생
+        List<Long> ids = addStudents();
+        StudentDto existing = studentService.findStudent(ids.get(0));
+        Long otherId = null;
+        for (int i = 3; i < ids.size() && otherId == null; i += 3) {
+            if (SnowflakeIdGenerator.shardOf(ids.get(i)) != SnowflakeIdGenerator.shardOf(ids.get(0))) {
+                otherId = ids.get(i);
+            }
+        }
+        assertThat(otherId).isNotNull();
+        Long targetId = otherId;
+        StudentDto other = studentService.findStudent(targetId);
+        
+        //when & then: 이름, 나이만 0번 학생과 같게 일부 수정 (보내지 않은 전공은 현재 값과 합쳐서 확인)
+        assertThatThrownBy(() -> studentService.patchStudent(targetId, StudentPatchDto.builder()
+                .studentName(existing.getStudentName())
+                .age(existing.getAge())
+                .build()))
+                .isInstanceOf(DuplicateStudentException.class);
+        
+        //when & then: 전체 수정도 같음
+        assertThatThrownBy(() -> studentService.updateStudent(targetId, StudentDto.builder()
+                .studentName(existing.getStudentName()).age(existing.getAge()).major(existing.getMajor()).build()))
+                .isInstanceOf(DuplicateStudentException.class);
+        
+        //then: 수정되지 않음
+        assertThat(studentService.findStudent(targetId).getStudentName()).isEqualTo(other.getStudentName());
+    }
+    
+    @Test
+    @DisplayName("전공 일괄 변경으로 다른 샤드에 있는 학생과 같아지면 중복 예외가 발생하고 아무 샤드도 바뀌지 않는다.")
+    public void crossShardMajorChangeDuplicateTest() throws Exception {
+        //given: 이름, 나이가 같고 전공만 달라서 서로 다른 샤드에 저장되는 두 학생 + 다른 학생들
+        List<Long> ids = addStudents();
+        String toMajor = "전공0";
+        String fromMajor = null;
+        for (int k = 1; fromMajor == null; k++) {
+            if (shards.shardFor(new StudentKey("동명", 30, "전공" + k)) != shards.shardFor(new StudentKey("동명", 30, toMajor))) {
+                fromMajor = "전공" + k;
+            }
+        }
+        studentService.addStudent(StudentDto.builder().studentName("동명").age(30).major(toMajor).build());
+        Long movingId = studentService.addStudent(StudentDto.builder().studentName("동명").age(30).major(fromMajor).build());
+        List<Long> targets = new ArrayList<>(ids);
+        targets.add(movingId);
+        String sourceMajor = fromMajor;
+        
+        //when & then: 학번 목록으로 바꾸면 다른 샤드의 "동명"과 같아짐
+        assertThatThrownBy(() -> studentService.changeMajor(StudentMajorChangeDto.builder()
+                .studentIds(targets).toMajor(toMajor).build()))
+                .isInstanceOf(DuplicateStudentException.class);
+        
+        //when & then: 기존 전공으로 바꿔도 같음
+        assertThatThrownBy(() -> studentService.changeMajor(StudentMajorChangeDto.builder()
+                .fromMajor(sourceMajor).toMajor(toMajor).build()))
+                .isInstanceOf(DuplicateStudentException.class);
+        
+        //then: 어느 샤드의 학생도, 키 목록도 바뀌지 않음
+        assertThat(studentService.findStudent(movingId).getMajor()).isEqualTo(sourceMajor);
+        for (Long id : ids) {
+            assertThat(studentService.findStudent(id).getMajor()).isNotEqualTo(toMajor);
+        }
+        assertThat(count(SHARD0_URL, "student_key")).isEqualTo(ids.size() + 2);
+    }
+    
+    @Test
+    @DisplayName("목록, 검색은 모든 샤드에서 읽어 학번 순으로 합친다.")
+    public void scatterGatherTest() {
+        //given
+        List<Long> ids = addStudents();
+        List<Long> sorted = ids.stream().sorted().toList();
+        
+        //when: 7명씩 끝까지 페이지 조회
+        List<Long> paged = new ArrayList<>();
+        Long cursor = null;
+        do {
+            StudentPageDto page = studentService.findStudents(cursor, 7);
+            page.getStudents().forEach(student -> paged.add(student.getStudentId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        
+        //then: 빠짐없이 학번 순
+        assertThat(paged).containsExactlyElementsOf(sorted);
+        assertThat(studentService.findAllStudents()).extracting(StudentDto::getStudentId)
+                .containsExactlyElementsOf(sorted);
+        
+        //when: 전공 검색
+        StudentPageDto searched = studentService.searchStudents(
+                StudentSearchCondition.builder().major("컴퓨터공학과").build(), null, 100);
+        
+        //then: 조건에 맞는 학생만 학번 순
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += 3) {
+            expected.add(ids.get(i));
+        }
+        assertThat(searched.getStudents()).extracting(StudentDto::getStudentId)
+                .containsExactlyElementsOf(expected.stream().sorted().toList());
+    }
+    
+    @Test
+    @DisplayName("학번 목록 일괄 삭제는 샤드별로 나눠서 삭제한다.")
+    public void bulkDeleteTest() throws Exception {
+        //given
+        List<Long> ids = addStudents();
+        
+        //when: 앞 20명 삭제 (없는 샤드 번호의 학번 포함)
+        List<Long> targets = new ArrayList<>(ids.subList(0, 20));
+        targets.add(new SnowflakeIdGenerator(0).next(9));
+        int deleted = studentService.deleteStudents(new StudentBulkDeleteDto(targets, null));
+        
+        //then
+        assertThat(deleted).isEqualTo(20);
+        assertThat(count(SHARD0_URL) + count(SHARD1_URL) + count(SHARD2_URL)).isEqualTo(10);
+        assertThat(count(SHARD0_URL, "student_key")).isEqualTo(10);
+        assertThat(studentService.findAllStudents()).extracting(StudentDto::getStudentId)
+                .containsExactlyInAnyOrderElementsOf(ids.subList(20, 30));
+    }
+}
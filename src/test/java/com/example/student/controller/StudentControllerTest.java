@@ -1,8 +1,12 @@
 package com.example.student.controller;
 
+import com.example.student.config.ContentNegotiationConfig;
+import com.example.student.domain.Student;
 import com.example.student.dto.StudentDto;
 import com.example.student.repository.StudentRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +14,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +44,9 @@ public class StudentControllerTest {
     @Autowired
     private StudentRepository studentRepository;
     
+    @Autowired
+    private io.micrometer.core.instrument.MeterRegistry meterRegistry;
+    
     @Test
     @DisplayName("학생 정보를 조회한다.")
     public void findStudentTest() throws Exception {
@@ -44,7 +58,7 @@ public class StudentControllerTest {
                 .major("경영학과")
                 .build();
         Long savedId = studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName(studentDto.getStudentName())
                         .age(studentDto.getAge())
                         .major(studentDto.getMajor())
@@ -76,14 +90,14 @@ public class StudentControllerTest {
         //성공 케이스 - 학생 정보가 있는 경우
         //given: 테스트용 학생 정보 2개 저장
         Long id1 = studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName("장동현")
                         .age(29)
                         .major("경영학과")
                         .build()
         ).getStudentId();
         Long id2 = studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName("최규환")
                         .age(28)
                         .major("기계공학과")
@@ -113,6 +127,94 @@ public class StudentControllerTest {
                 .andExpect(jsonPath("$.length()" ).value(0));
     }
     
+    @Test
+    @DisplayName("학생 정보를 페이지 단위로 조회한다.")
+    public void findStudentsPageTest() throws Exception {
+        //given: 테스트용 학생 정보 3개 저장
+        Long id1 = studentRepository.save(
+                Student.builder()
+                        .studentName("장동현")
+                        .age(29)
+                        .major("경영학과")
+                        .build()
+        ).getStudentId();
+        Long id2 = studentRepository.save(
+                Student.builder()
+                        .studentName("최규환")
+                        .age(28)
+                        .major("기계공학과")
+                        .build()
+        ).getStudentId();
+        Long id3 = studentRepository.save(
+                Student.builder()
+                        .studentName("김민수")
+                        .age(25)
+                        .major("컴퓨터공학과")
+                        .build()
+        ).getStudentId();
+        
+        //when: GET /students?limit=2 요청 수행
+        mockMvc.perform(get("/students").param("limit", "2"))
+                // then: 앞의 2명과 다음 페이지 커서 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].studentId").value(id1))
+                .andExpect(jsonPath("$[1].studentId").value(id2))
+                .andExpect(header().string(StudentController.NEXT_CURSOR_HEADER, String.valueOf(id2)));
+        
+        //when: 커서로 다음 페이지 요청 수행
+        mockMvc.perform(get("/students").param("afterId", String.valueOf(id2)).param("limit", "2"))
+                // then: 마지막 1명, 커서 헤더 없음
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(id3))
+                .andExpect(header().doesNotExist(StudentController.NEXT_CURSOR_HEADER));
+        
+        //when: all=true 로 전체 조회 요청 수행
+        mockMvc.perform(get("/students").param("all", "true"))
+                // then: 전체 3명 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+    
+    @Test
+    @DisplayName("전체 학생 정보를 NDJSON으로 내보낸다.")
+    public void exportStudentsTest() throws Exception {
+        //when: GET /students/export 요청 수행 (비동기 스트리밍 응답)
+        MvcResult result = mockMvc.perform(get("/students/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        //then: 응답 코드 200, NDJSON 타입으로 응답
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+    
+    @Test
+    @DisplayName("엔드포인트, Repository 메서드, 예외 결과, Hibernate 통계 메트릭을 기록한다.")
+    public void metricsTest() throws Exception {
+        //given: 현재 not_found 카운트
+        double notFoundBefore = meterRegistry.counter("students.errors", "type", "not_found").count();
+        
+        //when: 존재하지 않는 학생 조회
+        mockMvc.perform(get("/students/" + Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+        
+        //then: 예외 결과 카운터 증가
+        assertThat(
+                meterRegistry.counter("students.errors", "type", "not_found").count())
+                .isEqualTo(notFoundBefore + 1);
+        //then: 엔드포인트별 타이머
+        assertThat(meterRegistry.find("http.server.requests")
+                .tag("uri", "/students/{studentId}").tag("status", "404").timer()).isNotNull();
+        //then: Repository 메서드별 타이머
+        assertThat(meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "StudentRepository").tag("method", "findDtoById").timer()).isNotNull();
+        //then: Hibernate 통계
+        assertThat(meterRegistry.find("hibernate.query.executions").meter()).isNotNull();
+    }
+    
     @Test
     @DisplayName("학생 정보를 추가한다.")
     public void addStudentTest() throws Exception {
@@ -130,12 +232,12 @@ public class StudentControllerTest {
                 .content(objectMapper.writeValueAsString(studentDto)))
                 // then: 응답 코드 200, 등록된 학생 정보 반환 및 DB에 저장 여부 검증
                 .andExpect(status().isOk())
-                .andExpect(content().string(org.hamcrest.Matchers.notNullValue()));
+                .andExpect(content().string(notNullValue()));
         
         //실패 케이스 : 중복된 학생 정보가 이미 있는 경우
         //given: DB에 동일한 학생 정보 미리 저장
         studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName(studentDto.getStudentName())
                         .age(studentDto.getAge())
                         .major(studentDto.getMajor())
@@ -150,13 +252,76 @@ public class StudentControllerTest {
                 .andExpect(status().isBadRequest());
     }
     
+    @Test
+    @DisplayName("학생 정보를 일괄 추가한다.")
+    public void addStudentsTest() throws Exception {
+        //성공 케이스 : 중복된 학생 정보가 없는 경우
+        //given: 테스트용 학생 정보 2명 준비
+        List<StudentDto> studentDtos = List.of(
+                StudentDto.builder().studentName("장동현").age(29).major("경영학과").build(),
+                StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build());
+        
+        //when: POST /students/batch 요청 수행
+        mockMvc.perform(post("/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(studentDtos)))
+                // then: 응답 코드 200, 등록된 학번 2개 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        
+        //실패 케이스 : 요청 안에 같은 학생이 두 번 있는 경우
+        //when: POST /students/batch 요청 수행
+        mockMvc.perform(post("/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                List.of(studentDtos.get(0), studentDtos.get(0)))))
+                // then: 응답 코드 400(Bad Request)
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 등록하면 저장하지 않고 처음 응답을 그대로 돌려준다.")
+    public void idempotentAddStudentTest() throws Exception {
+        //given: 테스트용 학생 정보, 요청마다 새 키 (저장소는 테스트 사이에 롤백되지 않음)
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(
+                StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        
+        //when: 같은 키로 두 번 요청
+        String first = mockMvc.perform(post("/students")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post("/students")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                // then: 중복(400)이 아니라 처음 응답(같은 학번)을 다시 받음, 저장은 1번
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().string(first));
+        assertThat(studentRepository.count()).isEqualTo(1);
+        
+        //실패 케이스 : 같은 키로 다른 학생 등록
+        mockMvc.perform(post("/students")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build())))
+                // then: 응답 코드 422
+                .andExpect(status().isUnprocessableEntity());
+    }
+    
     @Test
     @DisplayName("학생 정보를 수정한다.")
     public void updateStudentTest() throws Exception {
         //성공 케이스 : 기존 학생 정보가 있는 경우
         //given: 테스트용 학생 정보 저장 및 수정할 학생 정보 준비
         Long savedId = studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName("장동현")
                         .age(29)
                         .major("경영학과")
@@ -189,13 +354,49 @@ public class StudentControllerTest {
                 .andExpect(status().isNotFound());
     }
     
+    @Test
+    @DisplayName("학생 정보를 일부 수정한다.")
+    public void patchStudentTest() throws Exception {
+        //성공 케이스 : 기존 학생 정보가 있는 경우
+        //given: 테스트용 학생 정보 저장
+        Long savedId = studentRepository.save(
+                Student.builder()
+                        .studentName("장동현")
+                        .age(29)
+                        .major("경영학과")
+                        .build()
+        ).getStudentId();
+        
+        //when: PATCH /students/{student_id} 요청 수행 (전공만)
+        mockMvc.perform(patch("/students/" + savedId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"major\":\"기계공학과\"}"))
+                // then: 응답 코드 204(No Content)
+                .andExpect(status().isNoContent());
+        
+        //then: 전공만 바뀌고 나머지는 그대로
+        mockMvc.perform(get("/students/" + savedId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentName").value("장동현"))
+                .andExpect(jsonPath("$.age").value(29))
+                .andExpect(jsonPath("$.major").value("기계공학과"));
+        
+        //실패 케이스 : 수정하려는 학생 정보가 없는 경우
+        //when: 없는 학번으로 PATCH 요청 수행
+        mockMvc.perform(patch("/students/" + Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"major\":\"기계공학과\"}"))
+                // then: 응답 코드 404(Not Found)
+                .andExpect(status().isNotFound());
+    }
+    
     @Test
     @DisplayName("학생 정보를 삭제한다.")
     public void deleteStudentTest() throws Exception {
         //성공 케이스 : 기존 학생 정보가 있는 경우
         //given: 테스트용 학생 정보 저장
         Long savedId = studentRepository.save(
-                com.example.student.domain.Student.builder()
+                Student.builder()
                         .studentName("장동현")
                         .age(29)
                         .major("경영학과")
@@ -216,4 +417,297 @@ public class StudentControllerTest {
                 // then: 응답 코드 404(Not Found), 에러 메시지 검증
                 .andExpect(status().isNotFound());
     }
+    
+    @Test
+    @DisplayName("전공, 나이 범위, 이름 앞부분으로 학생을 검색한다.")
+    public void searchStudentsTest() throws Exception {
+        //given: 테스트용 학생 정보 4명 저장
+        Long id1 = saveStudent("장동현", 29, "경영학과");
+        Long id2 = saveStudent("장수민", 24, "경영학과");
+        Long id3 = saveStudent("장_현", 22, "경영학과");
+        saveStudent("최규환", 28, "기계공학과");
+        
+        //when: 전공 + 나이 범위로 검색 (페이지 크기 1)
+        mockMvc.perform(get("/students/search")
+                        .param("major", "경영학과")
+                        .param("minAge", "23")
+                        .param("maxAge", "30")
+                        .param("limit", "1"))
+                // then: 첫 번째 학생과 다음 페이지 커서 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(id1))
+                .andExpect(header().string(StudentController.NEXT_CURSOR_HEADER, String.valueOf(id1)));
+        
+        //when: 커서로 다음 페이지 요청 수행
+        mockMvc.perform(get("/students/search")
+                        .param("major", "경영학과")
+                        .param("minAge", "23")
+                        .param("maxAge", "30")
+                        .param("afterId", String.valueOf(id1)))
+                // then: 남은 1명, 커서 헤더 없음
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(id2))
+                .andExpect(header().doesNotExist(StudentController.NEXT_CURSOR_HEADER));
+        
+        //when: 이름 앞부분으로 검색 (_는 와일드카드가 아닌 문자)
+        mockMvc.perform(get("/students/search").param("namePrefix", "장_"))
+                // then: '장_현'만 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].studentId").value(id3));
+        
+        //실패 케이스 : 최소 나이가 최대 나이보다 큰 경우
+        mockMvc.perform(get("/students/search").param("minAge", "30").param("maxAge", "20"))
+                // then: 응답 코드 400(Bad Request)
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("이름 앞부분 없이 자동완성을 요청하면 400을 반환한다.")
+    public void autocompleteBadRequestTest() throws Exception {
+        //실패 케이스 : prefix가 없거나 비어 있는 경우
+        mockMvc.perform(get("/students/autocomplete"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/students/autocomplete").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("학생 통계를 조회한다.")
+    public void findStatisticsTest() throws Exception {
+        //when: GET /students/stats 요청 수행
+        mockMvc.perform(get("/students/stats"))
+                // then: 응답 코드 200, 전체/전공별/나이별 항목 반환
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").isNumber())
+                .andExpect(jsonPath("$.countByMajor").isMap())
+                .andExpect(jsonPath("$.countByAge").isMap());
+    }
+    
+    @Test
+    @DisplayName("ETag로 변경되지 않은 조회는 304, If-Match 버전이 다른 수정/삭제는 412를 반환한다.")
+    public void etagTest() throws Exception {
+        //given: 테스트용 학생 정보 저장 (버전 0)
+        Long savedId = saveStudent("장동현", 29, "경영학과");
+        
+        //when: GET /students/{student_id} 요청 수행
+        //then: ETag는 버전
+        mockMvc.perform(get("/students/" + savedId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+        
+        //when: 같은 ETag로 If-None-Match 요청 수행
+        //then: 응답 코드 304(Not Modified), 본문 없음
+        mockMvc.perform(get("/students/" + savedId).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        
+        //when: 목록 조회 후 받은 ETag로 다시 요청 수행
+        //then: 응답 코드 304(Not Modified)
+        String listETag = mockMvc.perform(get("/students"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/students").header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+        
+        //실패 케이스 : If-Match 버전이 현재 버전과 다른 경우
+        StudentDto updateDto = StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build();
+        mockMvc.perform(put("/students/" + savedId)
+                        .header("If-Match", "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                // then: 응답 코드 412(Precondition Failed)
+                .andExpect(status().isPreconditionFailed());
+        
+        //성공 케이스 : If-Match 버전이 현재 버전과 같은 경우
+        mockMvc.perform(put("/students/" + savedId)
+                        .header("If-Match", "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                // then: 응답 코드 204, 새 버전 ETag
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"1\""));
+        
+        //실패 케이스 : 이전 버전으로 삭제하는 경우
+        mockMvc.perform(delete("/students/" + savedId).header("If-Match", "\"0\""))
+                // then: 응답 코드 412(Precondition Failed)
+                .andExpect(status().isPreconditionFailed());
+        
+        //성공 케이스 : 현재 버전으로 삭제하는 경우
+        mockMvc.perform(delete("/students/" + savedId).header("If-Match", "\"1\""))
+                .andExpect(status().isNoContent());
+        
+        //실패 케이스 : 없는 학생은 If-Match가 있어도 404
+        mockMvc.perform(delete("/students/" + savedId).header("If-Match", "\"1\""))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("If-Match: *는 버전과 상관없이 처리하지만 없는 학생이면 412를 반환한다.")
+    public void ifMatchAnyTest() throws Exception {
+        //given: 테스트용 학생 정보 저장
+        Long savedId = saveStudent("장동현", 29, "경영학과");
+        StudentDto updateDto = StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build();
+        
+        //성공 케이스 : 있는 학생은 버전 확인 없이 수정/삭제
+        mockMvc.perform(put("/students/" + savedId)
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/students/" + savedId).header("If-Match", "*"))
+                .andExpect(status().isNoContent());
+        
+        //실패 케이스 : 없는 학생은 "있어야 함" 조건이 거짓이므로 404가 아니라 412
+        mockMvc.perform(put("/students/" + savedId)
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/students/" + savedId).header("If-Match", "*"))
+                .andExpect(status().isPreconditionFailed());
+        
+        //실패 케이스 : If-Match가 없으면 그대로 404
+        mockMvc.perform(delete("/students/" + savedId))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("Accept 헤더에 따라 CBOR, Smile 형식으로 응답한다.")
+    public void binaryFormatTest() throws Exception {
+        //given: 테스트용 학생 정보 저장
+        saveStudent("장동현", 29, "경영학과");
+        saveStudent("최규환", 28, "경영학과");
+        
+        for (MediaType format : List.of(MediaType.APPLICATION_CBOR, ContentNegotiationConfig.APPLICATION_SMILE)) {
+            //when: GET /students (Accept: CBOR / Smile)
+            byte[] body = mockMvc.perform(get("/students").accept(format))
+                    //then: 요청한 형식으로 응답
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(format))
+                    .andReturn().getResponse().getContentAsByteArray();
+            
+            //then: 같은 형식으로 읽으면 JSON과 같은 내용
+            ObjectMapper reader = new ObjectMapper(MediaType.APPLICATION_CBOR.equals(format)
+                    ? new CBORFactory() : ContentNegotiationConfig.smileFactory());
+            List<StudentDto> students = reader.readValue(body, new TypeReference<>() {
+            });
+            assertThat(students).extracting(StudentDto::getStudentName).containsExactly("장동현", "최규환");
+        }
+    }
+    
+    @Test
+    @DisplayName("변경 피드를 구독하면 이벤트 스트림 응답을 연다.")
+    public void streamChangesTest() throws Exception {
+        //when: GET /students/changes
+        mockMvc.perform(get("/students/changes").accept(MediaType.TEXT_EVENT_STREAM))
+                //then: 비동기 응답 시작 (연결을 닫지 않고 변경을 기다림)
+                .andExpect(request().asyncStarted());
+    }
+    
+    @Test
+    @DisplayName("없는 접수 번호로 비동기 등록 상태를 조회하면 404를 반환한다.")
+    public void findIngestionNotFoundTest() throws Exception {
+        //실패 케이스 : 접수한 적 없는 번호
+        mockMvc.perform(get("/students/ingest/unknown"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    @DisplayName("학생 정보를 일괄 삭제한다.")
+    public void deleteStudentsTest() throws Exception {
+        //성공 케이스 : 학번 목록, 전공으로 삭제하는 경우
+        //given: 테스트용 학생 정보 3명 저장
+        Long firstId = saveStudent("장동현", 29, "경영학과");
+        Long secondId = saveStudent("최규환", 28, "기계공학과");
+        saveStudent("김민수", 27, "기계공학과");
+        
+        //when: POST /students/bulk-delete 요청 수행 (학번 목록, 없는 학번 포함)
+        mockMvc.perform(post("/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("studentIds", List.of(firstId, Long.MAX_VALUE)))))
+                // then: 응답 코드 200, 실제로 삭제된 1명 반환
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+        
+        //when: POST /students/bulk-delete 요청 수행 (전공)
+        mockMvc.perform(post("/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"major\":\"기계공학과\"}"))
+                // then: 응답 코드 200, 기계공학과 2명 삭제
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+        
+        mockMvc.perform(get("/students/" + secondId))
+                .andExpect(status().isNotFound());
+        
+        //실패 케이스 : 삭제 대상을 지정하지 않은 경우
+        //when: 빈 요청으로 POST /students/bulk-delete 요청 수행
+        mockMvc.perform(post("/students/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                // then: 응답 코드 400(Bad Request)
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("전공을 일괄 변경한다.")
+    public void changeMajorTest() throws Exception {
+        //성공 케이스 : 기존 전공으로 변경하는 경우
+        //given: 테스트용 학생 정보 3명 저장
+        Long firstId = saveStudent("장동현", 29, "경영학과");
+        Long secondId = saveStudent("최규환", 28, "경영학과");
+        saveStudent("김민수", 27, "기계공학과");
+        
+        //when: PATCH /students/major 요청 수행 (경영학과 -> 경제학과)
+        mockMvc.perform(patch("/students/major")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromMajor\":\"경영학과\",\"toMajor\":\"경제학과\"}"))
+                // then: 응답 코드 200, 2명 변경
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+        
+        mockMvc.perform(get("/students/" + secondId))
+                .andExpect(jsonPath("$.major").value("경제학과"));
+        
+        //성공 케이스 : 학번 목록으로 변경하는 경우
+        //when: PATCH /students/major 요청 수행 (첫 번째 학생만 -> 기계공학과)
+        mockMvc.perform(patch("/students/major")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "studentIds", List.of(firstId), "toMajor", "기계공학과"))))
+                // then: 응답 코드 200, 1명 변경
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+        
+        //실패 케이스 : 바꿀 전공을 지정하지 않은 경우
+        //when: toMajor 없이 PATCH /students/major 요청 수행
+        mockMvc.perform(patch("/students/major")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromMajor\":\"경제학과\"}"))
+                // then: 응답 코드 400(Bad Request)
+                .andExpect(status().isBadRequest());
+    }
+    
+    private Long saveStudent(String studentName, int age, String major) {
+        return studentRepository.save(
+                Student.builder()
+                        .studentName(studentName)
+                        .age(age)
+                        .major(major)
+                        .build()
+        ).getStudentId();
+    }
 }
\ No newline at end of file
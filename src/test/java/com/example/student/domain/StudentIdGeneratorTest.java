@@ -0,0 +1,51 @@
+package com.example.student.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class StudentIdGeneratorTest {
+    
+    @Test
+    @DisplayName("샤딩할 때 노드 번호가 없으면 설정 단계에서 실패하고, 있으면 Snowflake 학번을 만든다.")
+    public void shardedNodeIdTest() {
+        //given: 샤딩 설정, 노드 번호 없음
+        StandardServiceRegistry missing = new StandardServiceRegistryBuilder()
+                .applySetting(StudentIdGenerator.SHARDED_SETTING, "true")
+                .build();
+        
+        //when & then: 기본값 없이 시작 실패
+        try {
+            assertThatThrownBy(() -> new StudentIdGenerator().configure(null, new Properties(), missing))
+                    .isInstanceOf(MappingException.class)
+                    .hasMessageContaining(StudentIdGenerator.NODE_ID_SETTING);
+        } finally {
+            StandardServiceRegistryBuilder.destroy(missing);
+        }
+        
+        //given: 노드 번호 지정
+        StandardServiceRegistry configured = new StandardServiceRegistryBuilder()
+                .applySetting(StudentIdGenerator.SHARDED_SETTING, "true")
+                .applySetting(StudentIdGenerator.NODE_ID_SETTING, "3")
+                .build();
+        
+        //when
+        StudentIdGenerator generator = new StudentIdGenerator();
+        try {
+            generator.configure(null, new Properties(), configured);
+        } finally {
+            StandardServiceRegistryBuilder.destroy(configured);
+        }
+        
+        //then: DB 없이 학번 생성
+        Object id = generator.generate(null, null, null, null);
+        assertThat(id).isInstanceOf(Long.class);
+        assertThat((Long) id).isGreaterThan(1L << 32);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.student.filter;
+
+import com.example.student.support.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimitFilterTest {
+    
+    @Test
+    @DisplayName("읽기 한도가 차면 읽기만 바로 거절하고 쓰기는 따로 처리한다.")
+    public void separateBudgetTest() throws Exception {
+        //given: 읽기 한도 1 (최대 2), 쓰기 한도 1 필터 / 첫 읽기 요청은 끝나지 않도록 막아둠
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                new AdaptiveConcurrencyLimit(1, 1, 2, Duration.ofSeconds(1), 2.0, 0.5),
+                new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 2.0, 0.5),
+                Set.of("/students/changes"), request -> false, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/students/1"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        //when: 두 번째 읽기 요청
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/2"), rejected,
+                (req, res) -> fail("한도를 넘으면 처리되면 안 됨"));
+        
+        //then: 한도가 최대치가 아니므로(서버가 느린 상태) 503 + Retry-After, 거절 카운터 증가
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("students.concurrency.rejected").tag("type", "read").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("students.concurrency.inflight").tag("type", "read").gauge().value())
+                .isEqualTo(1);
+        
+        //when: 쓰기 요청은 읽기 한도와 상관없이 처리
+        AtomicBoolean written = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("POST", "/students"), new MockHttpServletResponse(),
+                (req, res) -> written.set(true));
+        assertThat(written).isTrue();
+        
+        //when: 제외한 경로(변경 피드)는 한도가 차도 통과
+        AtomicBoolean passed = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/changes"), new MockHttpServletResponse(),
+                (req, res) -> passed.set(true));
+        assertThat(passed).isTrue();
+        
+        //then: 첫 요청이 끝나면 다시 처리
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        AtomicBoolean processed = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/3"), new MockHttpServletResponse(),
+                (req, res) -> processed.set(true));
+        assertThat(processed).isTrue();
+    }
+    
+    @Test
+    @DisplayName("5xx 응답은 실패로 보고 한도를 줄이며, 최대 한도에서 넘치면 429로 거절한다.")
+    public void dropAndTooManyRequestsTest() throws Exception {
+        //given: 쓰기 한도 2 (최소 1, 최대 2)
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimit writeLimit = new AdaptiveConcurrencyLimit(2, 1, 2, Duration.ofSeconds(1), 2.0, 0.5);
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 2.0, 0.5), writeLimit,
+                Set.of(), request -> false, meterRegistry);
+        
+        //when: 최대 한도(2)를 쓰는 중에 한 번 더 쓰기 요청
+        MockHttpServletResponse tooMany = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/students/1"), new MockHttpServletResponse(),
+                (req, res) -> filter.doFilter(new MockHttpServletRequest("PUT", "/students/2"), new MockHttpServletResponse(),
+                        (req2, res2) -> filter.doFilter(new MockHttpServletRequest("PUT", "/students/3"), tooMany,
+                                (req3, res3) -> fail("한도를 넘으면 처리되면 안 됨"))));
+        
+        //then: 요청 자체가 많으므로 429
+        assertThat(tooMany.getStatus()).isEqualTo(429);
+        assertThat(tooMany.getHeader("Retry-After")).isEqualTo("1");
+        
+        //when: 500 응답
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/students/1"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(500));
+        
+        //then: 한도 감소 (2 → 1), 메트릭에도 반영
+        assertThat(writeLimit.getLimit()).isEqualTo(1);
+        assertThat(meterRegistry.get("students.concurrency.limit").tag("type", "write").gauge().value())
+                .isEqualTo(1);
+        assertThat(writeLimit.getInflight()).isZero();
+    }
+    
+    @Test
+    @DisplayName("무거운 요청은 한도를 쓰지만 응답 시간은 한도 조절에 반영하지 않는다.")
+    public void unsampledTest() throws Exception {
+        //given: 시각을 직접 정하는 읽기 한도 2 (느린 기준 1초), 전체 목록 조회(all=true)는 반영하지 않는 필터
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit readLimit = new AdaptiveConcurrencyLimit(2, 1, 2, Duration.ofSeconds(1), 2.0, 0.5, clock::get);
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                readLimit, new AdaptiveConcurrencyLimit(1, 1, 1, Duration.ofSeconds(1), 2.0, 0.5),
+                Set.of(), request -> "true".equals(request.getParameter("all")), new SimpleMeterRegistry());
+        MockHttpServletRequest all = new MockHttpServletRequest("GET", "/students");
+        all.setParameter("all", "true");
+        
+        //when: 전체 목록 조회가 2초 걸림
+        filter.doFilter(all, new MockHttpServletResponse(), (req, res) -> clock.addAndGet(TimeUnit.SECONDS.toNanos(2)));
+        
+        //then: 한도 그대로, 허가는 반납
+        assertThat(readLimit.getLimit()).isEqualTo(2);
+        assertThat(readLimit.getInflight()).isZero();
+        
+        //when: 한 건 조회가 2초 걸림
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/1"), new MockHttpServletResponse(),
+                (req, res) -> clock.addAndGet(TimeUnit.SECONDS.toNanos(2)));
+        
+        //then: 한도 감소
+        assertThat(readLimit.getLimit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.student.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ConnectionPoolLimitFilterTest {
+    
+    @Test
+    @DisplayName("동시 처리 허가가 모두 사용 중이면 대기 시간 후 503으로 거절한다.")
+    public void rejectWhenPoolBusyTest() throws Exception {
+        //given: 허가 1개, 대기 50ms 필터 / 첫 요청은 끝나지 않도록 막아둠
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectionPoolLimitFilter filter = new ConnectionPoolLimitFilter(1, Duration.ofMillis(50),
+                Set.of("/students/changes"), meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/students/1"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, task -> Thread.ofVirtual().start(task));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        //when: 두 번째 요청
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/2"), rejected,
+                (req, res) -> fail("허가 없이 처리되면 안 됨"));
+        
+        //then: 503 + Retry-After, 거절 카운터 증가
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("students.pool.limiter.rejected").counter().count()).isEqualTo(1);
+        
+        //when: 제외한 경로(변경 피드)는 허가가 없어도 통과
+        AtomicBoolean passed = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/changes"), new MockHttpServletResponse(),
+                (req, res) -> passed.set(true));
+        assertThat(passed).isTrue();
+        
+        //when: 첫 요청이 끝난 뒤 다시 요청
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students/2"), accepted, (req, res) -> {
+        });
+        
+        //then: 정상 처리, 허가 반납
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("students.pool.limiter.available").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.student.filter;
+
+import com.example.student.support.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IdempotencyKeyFilterTest {
+    
+    @Test
+    @DisplayName("과부하로 거절된(503, 429, Retry-After) 응답은 저장하지 않아서 같은 키로 다시 보내면 새로 처리한다.")
+    public void retryAfterShedTest() throws Exception {
+        //given: 첫 번째는 503 + Retry-After, 두 번째는 429, 세 번째부터 201로 처리하는 체인
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(
+                new IdempotencyStore<>(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(1)), new SimpleMeterRegistry());
+        AtomicInteger processed = new AtomicInteger();
+        
+        //when: 같은 키로 세 번 등록 요청
+        MockHttpServletResponse shed = send(filter, processed, "key-1");
+        MockHttpServletResponse tooMany = send(filter, processed, "key-1");
+        MockHttpServletResponse created = send(filter, processed, "key-1");
+        
+        //then: 거절 응답은 다시 보내지 않고 매번 컨트롤러까지 감
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(tooMany.getStatus()).isEqualTo(429);
+        assertThat(created.getStatus()).isEqualTo(201);
+        assertThat(created.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(processed).hasValue(3);
+        
+        //when: 처리된 뒤 같은 키로 한 번 더
+        MockHttpServletResponse replayed = send(filter, processed, "key-1");
+        
+        //then: 저장된 201 응답을 다시 보내고 처리하지 않음
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getContentAsString()).isEqualTo("1");
+        assertThat(processed).hasValue(3);
+    }
+    
+    @Test
+    @DisplayName("미리 읽어 둔 본문은 비동기 읽기(ReadListener)로도 읽을 수 있다.")
+    public void readListenerTest() throws Exception {
+        //given
+        IdempotencyKeyFilter filter = new IdempotencyKeyFilter(
+                new IdempotencyStore<>(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(1)), new SimpleMeterRegistry());
+        MockHttpServletRequest request = request("key-2");
+        StringBuilder read = new StringBuilder();
+        AtomicInteger allDataRead = new AtomicInteger();
+        
+        //when: 체인에서 ReadListener로 본문 읽기
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.append((char) in.read());
+                    }
+                }
+                
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+                
+                @Override
+                public void onError(Throwable t) {
+                    fail("읽기 실패", t);
+                }
+            });
+        });
+        
+        //then: 본문을 다 읽고 onAllDataRead 한 번
+        assertThat(read.toString()).isEqualTo("{\"studentName\":\"hong\"}");
+        assertThat(allDataRead).hasValue(1);
+    }
+    
+    // 처리 횟수에 따라 503 → 429 → 201로 응답하는 체인으로 요청
+    private static MockHttpServletResponse send(IdempotencyKeyFilter filter, AtomicInteger processed,
+                                                String key) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key), response, (req, res) -> {
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            switch (processed.incrementAndGet()) {
+                case 1 -> {
+                    httpResponse.setHeader("Retry-After", "1");
+                    httpResponse.sendError(503);
+                }
+                case 2 -> httpResponse.sendError(429);
+                default -> {
+                    httpResponse.setStatus(201);
+                    httpResponse.getWriter().write("1");
+                }
+            }
+        });
+        return response;
+    }
+    
+    private static MockHttpServletRequest request(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/students");
+        request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent("{\"studentName\":\"hong\"}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.student.repository;
 
 import com.example.student.domain.Student;
 import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentPageDto;
 import com.example.student.repository.StudentRepository;
 import com.example.student.service.StudentService;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +30,12 @@ public class StudentRepositoryTest {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private jakarta.persistence.EntityManager entityManager;
+    
+    @Autowired
+    private org.springframework.jdbc.core.JdbcTemplate jdbcTemplate;
+    
     @Test
     @DisplayName("학생 정보를 조회한다.")
     public void findStudentTest() {
@@ -97,6 +104,113 @@ public class StudentRepositoryTest {
         assertThat(emptyList.size()).isEqualTo(0);
     }
     
+    @Test
+    @DisplayName("학번 커서 기준으로 학생 정보를 페이지 조회한다.")
+    public void findStudentsPageTest() {
+        //given: 테스트용 학생 정보 5명 저장
+        for (int i = 0; i < 5; i++) {
+            studentRepository.save(Student.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i)
+                    .major("경영학과")
+                    .build());
+        }
+        
+        //when: 2명씩 커서를 따라가며 끝까지 조회
+        List<String> names = new java.util.ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            StudentPageDto page = studentService.findStudents(cursor, 2);
+            page.getStudents().forEach(s -> names.add(s.getStudentName()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        //then: 누락/중복 없이 3페이지로 모두 조회
+        assertThat(pages).isEqualTo(3);
+        assertThat(names).containsExactly("학생0", "학생1", "학생2", "학생3", "학생4");
+    }
+    
+    @Test
+    @DisplayName("전체 학생 정보를 스트림으로 내보낸다.")
+    public void exportStudentsTest() {
+        //given: 테스트용 학생 정보 3명 저장
+        for (int i = 0; i < 3; i++) {
+            studentRepository.save(Student.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i)
+                    .major("경영학과")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        
+        //when: exportStudents로 한 건씩 받아옴
+        List<StudentDto> exported = new java.util.ArrayList<>();
+        studentService.exportStudents(exported::add);
+        
+        //then: 학번 순서대로 모두 내보내고 영속성 컨텍스트에는 남지 않음
+        assertThat(exported).extracting("studentName")
+                .containsExactly("학생0", "학생1", "학생2");
+        assertThat(entityManager.unwrap(org.hibernate.Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("DTO 프로젝션 조회는 엔티티 조회보다 적게 할당하고 영속성 컨텍스트에 남지 않는다.")
+    public void projectionAllocationTest() {
+        //given: 테스트용 학생 정보 2000명 저장 후 영속성 컨텍스트 비움
+        List<Student> students = new java.util.ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            students.add(Student.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i % 10)
+                    .major("경영학과")
+                    .build());
+        }
+        studentRepository.saveAll(students);
+        entityManager.flush();
+        entityManager.clear();
+        org.hibernate.Session session = entityManager.unwrap(org.hibernate.Session.class);
+        
+        //when: 같은 데이터를 엔티티 조회 + 빌더 매핑 / DTO 프로젝션으로 각각 조회 (워밍업 후 측정)
+        Runnable entityPath = () -> {
+            studentRepository.findAll().stream()
+                    .map(student -> StudentDto.builder()
+                            .studentId(student.getStudentId())
+                            .studentName(student.getStudentName())
+                            .age(student.getAge())
+                            .major(student.getMajor())
+                            .build())
+                    .toList();
+            entityManager.clear();
+        };
+        Runnable projectionPath = () -> studentRepository.findAllDtos();
+        for (int i = 0; i < 3; i++) {
+            entityPath.run();
+            projectionPath.run();
+        }
+        long entityBytes = allocatedBytes(entityPath);
+        long projectionBytes = allocatedBytes(projectionPath);
+        
+        //then: 프로젝션 쪽 할당이 더 적고, 관리 중인 엔티티가 없음
+        assertThat(projectionBytes)
+                .as("2000건 조회 할당량: 엔티티 %,d bytes / DTO 프로젝션 %,d bytes", entityBytes, projectionBytes)
+                .isLessThan(entityBytes);
+        projectionPath.run();
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+    
+    // 현재 스레드가 작업 중에 할당한 바이트 수
+    private long allocatedBytes(Runnable work) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        work.run();
+        return threadMXBean.getCurrentThreadAllocatedBytes() - before;
+    }
+    
     @Test
     @DisplayName("학생 정보를 추가한다.")
     public void addStudentTest() {
@@ -120,7 +234,11 @@ public class StudentRepositoryTest {
         
         //실패 케이스 - 중복된 학생 정보가 이미 있는 경우
         //given: 동일한 학생 정보를 한 번 더 등록한다.
-        studentService.addStudent(dto);
+        studentRepository.save(Student.builder()
+                .studentName(dto.getStudentName())
+                .age(dto.getAge())
+                .major(dto.getMajor())
+                .build());
         
         //when: 동일한 정보로 addStudent를 호출
         Throwable thrown = assertThrows(
@@ -133,6 +251,42 @@ public class StudentRepositoryTest {
         assertThat(thrown.getMessage()).isEqualTo("이미 등록된 학생입니다.");
     }
     
+    @Test
+    @DisplayName("학생 정보를 JDBC 배치로 일괄 추가한다.")
+    public void addStudentsTest() {
+        //given: 중복 없는 학생 정보 120명 준비, SQL 통계 초기화
+        List<StudentDto> dtos = new java.util.ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            dtos.add(StudentDto.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i % 10)
+                    .major("경영학과")
+                    .build());
+        }
+        org.hibernate.stat.Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(org.hibernate.SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        //when: addStudents로 일괄 등록
+        List<Long> ids = studentService.addStudents(dtos);
+        
+        //then: 120명 모두 insert, 중복 검사 1번 + 채번 몇 번 + 배치 insert 3번으로 끝남
+        assertThat(ids).hasSize(120).doesNotContainNull();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(studentRepository.count()).isEqualTo(120);
+        
+        //실패 케이스 - 이미 등록된 학생이 섞여 있는 경우
+        //when: 기존 학생 1명을 포함해 다시 일괄 등록
+        List<StudentDto> withDuplicate = List.of(
+                StudentDto.builder().studentName("새학생").age(20).major("경영학과").build(),
+                dtos.get(0));
+        
+        //then: DuplicateStudentException 예외 발생 (트랜잭션 전체 롤백 대상)
+        assertThrows(com.example.student.exception.DuplicateStudentException.class,
+                () -> studentService.addStudents(withDuplicate));
+    }
+    
     @Test
     @DisplayName("학생 정보를 수정한다.")
     public void updateStudentTest() {
@@ -171,6 +325,186 @@ public class StudentRepositoryTest {
         assertThat(thrown).isInstanceOf(jakarta.persistence.EntityNotFoundException.class);
     }
     
+    @Test
+    @DisplayName("수정/삭제는 조회 없이 SQL 한 문장으로 처리한다.")
+    public void singleStatementWriteTest() {
+        //given: 학생 등록, SQL 통계 초기화
+        Long savedId = studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        org.hibernate.stat.Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(org.hibernate.SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        //when: 수정
+        studentService.updateStudent(savedId, StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build());
+        
+        //then: update 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        
+        //when: 일부 수정 (나이만)
+        statistics.clear();
+        studentService.patchStudent(savedId, com.example.student.dto.StudentPatchDto.builder()
+                .age(30)
+                .build());
+        
+        //then: update 1번, 나머지 필드는 그대로
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        StudentDto patched = studentService.findStudent(savedId);
+        assertThat(patched.getStudentName()).isEqualTo("최규환");
+        assertThat(patched.getAge()).isEqualTo(30);
+        assertThat(patched.getMajor()).isEqualTo("기계공학과");
+        
+        //when: 삭제
+        statistics.clear();
+        studentService.deleteStudent(savedId);
+        
+        //then: delete 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        
+        //실패 케이스 - 없는 학생 일부 수정
+        //then: 영향받은 행이 없으므로 EntityNotFoundException 예외 발생
+        assertThrows(jakarta.persistence.EntityNotFoundException.class,
+                () -> studentService.patchStudent(savedId, com.example.student.dto.StudentPatchDto.builder()
+                        .age(31)
+                        .build()));
+    }
+    
+    @Test
+    @DisplayName("다른 학생과 같은 정보로 수정하면 중복 예외가 발생한다.")
+    public void updateStudentDuplicateTest() {
+        //given: 서로 다른 학생 2명 등록
+        studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        Long otherId = studentService.addStudent(StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build());
+        
+        //when: 두 번째 학생을 첫 번째 학생과 같은 정보로 수정
+        Throwable thrown = assertThrows(com.example.student.exception.DuplicateStudentException.class,
+                () -> studentService.updateStudent(otherId, StudentDto.builder()
+                        .studentName("장동현")
+                        .age(29)
+                        .major("경영학과")
+                        .build()));
+        
+        //then: 유니크 인덱스 위반이 DuplicateStudentException으로 변환됨
+        assertThat(thrown.getMessage()).isEqualTo("이미 등록된 학생입니다.");
+    }
+    
+    @Test
+    @DisplayName("학생 정보를 학번 목록으로 일괄 수정/삭제하면 IN 절 크기 단위로 한 문장씩 실행한다.")
+    public void bulkWriteTest() {
+        //given: 학생 3명 등록, 목록 끝에 없는 학번 2500개 추가
+        List<Long> studentIds = new java.util.ArrayList<>(studentService.addStudents(List.of(
+                StudentDto.builder().studentName("장동현").age(29).major("경영학과").build(),
+                StudentDto.builder().studentName("최규환").age(28).major("경영학과").build(),
+                StudentDto.builder().studentName("김민수").age(27).major("기계공학과").build())));
+        for (long i = 1; i <= 2500; i++) {
+            studentIds.add(-i);
+        }
+        org.hibernate.stat.Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(org.hibernate.SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        //when: 전공 일괄 변경
+        int updated = studentService.changeMajor(com.example.student.dto.StudentMajorChangeDto.builder()
+                .studentIds(studentIds)
+                .toMajor("경제학과")
+                .build());
+        
+        //then: 3명 변경, 2503개를 1000개씩 나눠 update 3번
+        assertThat(updated).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(studentService.findStudent(studentIds.get(0)).getMajor()).isEqualTo("경제학과");
+        
+        //when: 전공으로 일괄 삭제
+        statistics.clear();
+        int deleted = studentService.deleteStudents(com.example.student.dto.StudentBulkDeleteDto.builder()
+                .major("경제학과")
+                .build());
+        
+        //then: delete 1번으로 3명 삭제
+        assertThat(deleted).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(studentRepository.count()).isZero();
+        
+        //실패 케이스 - 바꾼 전공에 (이름, 나이)가 같은 학생이 이미 있는 경우
+        //given: 전공만 다른 같은 학생 2명 등록
+        Long first = studentService.addStudent(StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        studentService.addStudent(StudentDto.builder().studentName("장동현").age(29).major("기계공학과").build());
+        
+        //then: 유니크 인덱스 위반이 중복 예외로 변환됨
+        assertThrows(com.example.student.exception.DuplicateStudentException.class,
+                () -> studentService.changeMajor(com.example.student.dto.StudentMajorChangeDto.builder()
+                        .studentIds(List.of(first))
+                        .toMajor("기계공학과")
+                        .build()));
+    }
+    
+    @Test
+    @DisplayName("검색 조건마다 인덱스를 탄다.")
+    // H2의 analyze는 트랜잭션을 커밋하므로 트랜잭션 없이 실행하고 직접 정리
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED)
+    public void searchIndexTest() {
+        try {
+            assertSearchUsesIndexes();
+        } finally {
+            studentRepository.deleteAllInBatch();
+        }
+    }
+    
+    private void assertSearchUsesIndexes() {
+        //given: 전공/나이/이름이 섞인 학생 등록
+        List<StudentDto> students = new java.util.ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            students.add(StudentDto.builder()
+                    .studentName("학생" + i)
+                    .age(20 + i % 50)
+                    .major("전공" + i % 5)
+                    .build());
+        }
+        studentService.addStudents(students);
+        // 옵티마이저가 컬럼별 선택도를 알도록 통계 갱신
+        jdbcTemplate.execute("analyze");
+        
+        //when: 검색 첫 페이지와 같은 조건으로 실행 계획 조회
+        //then: 조건마다 맞는 인덱스 사용
+        assertThat(explain("major = '전공1' and age between 21 and 22")).contains("idx_student_major_age");
+        assertThat(explain("student_name like '학생12%'")).contains("uk_student_name_age_major");
+        
+        //then: 검색 결과는 조건을 모두 만족
+        List<StudentDto> found = studentRepository.search(com.example.student.dto.StudentSearchCondition.builder()
+                .major("전공1")
+                .minAge(21)
+                .maxAge(25)
+                .namePrefix("학생1")
+                .build(), null, 100);
+        assertThat(found).isNotEmpty().allSatisfy(student -> {
+            assertThat(student.getMajor()).isEqualTo("전공1");
+            assertThat(student.getAge()).isBetween(21, 25);
+            assertThat(student.getStudentName()).startsWith("학생1");
+        });
+    }
+    
+    // H2 실행 계획 (사용하는 인덱스 이름이 주석으로 들어 있음)
+    private String explain(String where) {
+        return jdbcTemplate.queryForObject(
+                "explain select student_id, student_name, age, major from student where " + where
+                        + " order by student_id", String.class).toLowerCase();
+    }
+    
     @Test
     @DisplayName("학생 정보를 삭제한다.")
     public void deleteStudentTest() {
@@ -193,7 +527,7 @@ public class StudentRepositoryTest {
         
         //실패 케이스 : 삭제하려는 학생 정보가 없는 경우
         //given: 해당 학생 정보가 DB에 없도록 삭제
-        studentService.deleteStudent(savedId);
+        studentRepository.deleteById(savedId);
         
         //when: deleteStudent로 삭제된 ID 삭제
         Throwable thrown2 = assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> {
@@ -203,4 +537,16 @@ public class StudentRepositoryTest {
         //then: EntityNotFoundException 예외 발생
         assertThat(thrown2).isInstanceOf(jakarta.persistence.EntityNotFoundException.class);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("샤드가 1개면 학번은 student_seq 시퀀스로 만든다.")
+    public void sequenceIdTest() {
+        //given & when: 학생 2명 저장
+        Long first = studentService.addStudent(StudentDto.builder().studentName("시퀀스일").age(20).major("경영학과").build());
+        Long second = studentService.addStudent(StudentDto.builder().studentName("시퀀스이").age(21).major("경영학과").build());
+        
+        //then: 샤드 번호/시각이 들어간 큰 학번이 아니라 시퀀스에서 이어지는 번호
+        assertThat(second).isGreaterThan(first);
+        assertThat(second).isLessThan(1L << 32);
+    }
+}
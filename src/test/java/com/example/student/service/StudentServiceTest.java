@@ -1,8 +1,733 @@
 package com.example.student.service;
 
+import com.example.student.config.CacheConfig;
+import com.example.student.domain.StudentKey;
+import com.example.student.dto.StudentBulkDeleteDto;
+import com.example.student.dto.StudentDto;
+import com.example.student.dto.StudentImportResultDto;
+import com.example.student.dto.StudentIngestionDto;
+import com.example.student.dto.StudentMajorChangeDto;
+import com.example.student.dto.StudentNameDto;
+import com.example.student.dto.StudentPatchDto;
+import com.example.student.dto.StudentStatsDto;
+import com.example.student.event.StudentChangedEvent;
+import com.example.student.exception.DuplicateStudentException;
+import com.example.student.exception.StudentIngestionRejectedException;
+import com.example.student.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=student",
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=10m,recordStats",
+        "student.list-snapshot.enabled=true"
+})
 public class StudentServiceTest {
     // Repo에서 같이 테스트
-}
\ No newline at end of file
+    // 여기서는 커밋 이후에 갱신되는 부분만 테스트 (@Transactional 없음, 직접 정리)
+    
+    @Autowired
+    private StudentService studentService;
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private StudentDuplicateFilter duplicateFilter;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private StudentCacheInvalidator cacheInvalidator;
+    
+    @Autowired
+    private StudentLookupCoalescer lookupCoalescer;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private StudentModificationCounter modificationCounter;
+    
+    @Autowired
+    private StudentIngestionQueue ingestionQueue;
+    
+    @Autowired
+    private StudentChangeFeed changeFeed;
+    
+    @Autowired
+    private StudentListSnapshot listSnapshot;
+    
+    @Autowired
+    private StudentStatistics statistics;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @AfterEach
+    public void cleanUp() {
+        studentRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.STUDENT_CACHE).clear();
+    }
+    
+    @Test
+    @DisplayName("등록/수정이 커밋되면 블룸 필터가 갱신된다.")
+    public void duplicateFilterTest() {
+        //given: 등록할 학생 정보
+        StudentDto dto = StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build();
+        StudentKey key = StudentKey.of(dto);
+        StudentKey updatedKey = new StudentKey("최규환", 28, "기계공학과");
+        
+        //when: 등록
+        Long savedId = studentService.addStudent(dto);
+        
+        //then: 필터에 있음, 아직 수정 전 정보는 없음
+        assertThat(duplicateFilter.mightExist(key)).isTrue();
+        assertThat(duplicateFilter.mightExist(updatedKey)).isFalse();
+        
+        //when: 다른 정보로 수정
+        studentService.updateStudent(savedId, StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build());
+        
+        //then: 새 정보가 필터에 있음
+        // (한 문장 update라 이전 정보는 모르므로 지우지 않음, 거짓 양성으로만 남음)
+        assertThat(duplicateFilter.mightExist(updatedKey)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("일부 수정이 커밋되면 바뀐 정보가 블룸 필터에 들어가서 같은 학생 등록을 막는다.")
+    public void duplicateFilterPatchTest() {
+        //given: 학생 등록
+        Long savedId = studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        StudentKey patchedKey = new StudentKey("최규환", 29, "경영학과");
+        assertThat(duplicateFilter.mightExist(patchedKey)).isFalse();
+        
+        //when: 이름만 수정
+        studentService.patchStudent(savedId, StudentPatchDto.builder().studentName("최규환").build());
+        
+        //then: 바뀐 정보가 필터에 있고, 같은 학생은 등록 실패
+        assertThat(duplicateFilter.mightExist(patchedKey)).isTrue();
+        assertThrows(DuplicateStudentException.class, () -> studentService.addStudent(StudentDto.builder()
+                .studentName("최규환")
+                .age(29)
+                .major("경영학과")
+                .build()));
+    }
+    
+    @Test
+    @DisplayName("일괄 변경 뒤에는 새 필터로 교체될 때까지 있을 수도 있음으로 응답하고, 교체된 필터에는 바뀐 정보가 있다.")
+    public void duplicateFilterBulkTest() throws InterruptedException {
+        //given: 학생 등록
+        Long savedId = studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        StudentKey changedKey = new StudentKey("장동현", 29, "철학과");
+        StudentKey unknownKey = new StudentKey("없는학생", 99, "없는학과");
+        assertThat(duplicateFilter.mightExist(unknownKey)).isFalse();
+        
+        //when: 전공 일괄 변경
+        studentService.changeMajor(StudentMajorChangeDto.builder()
+                .studentIds(List.of(savedId))
+                .toMajor("철학과")
+                .build());
+        
+        //then: 새 필터로 교체되면 없는 학생은 다시 "없음", 바뀐 정보는 있음
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (duplicateFilter.mightExist(unknownKey) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(duplicateFilter.mightExist(unknownKey)).isFalse();
+        assertThat(duplicateFilter.mightExist(changedKey)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("학생 1명 조회는 캐시를 거치고, 수정/삭제하면 캐시에서 제거된다.")
+    public void findStudentCacheTest() {
+        //given: 학생 등록, 캐시 통계 확인용 Caffeine 캐시
+        Long savedId = studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache =
+                ((CaffeineCache) cacheManager.getCache(CacheConfig.STUDENT_CACHE)).getNativeCache();
+        long hits = cache.stats().hitCount();
+        long misses = cache.stats().missCount();
+        
+        //when: 같은 학생을 두 번 조회
+        studentService.findStudent(savedId);
+        StudentDto cached = studentService.findStudent(savedId);
+        
+        //then: 첫 번째는 미스, 두 번째는 적중
+        assertThat(cached.getStudentName()).isEqualTo("장동현");
+        assertThat(cache.stats().missCount() - misses).isEqualTo(1);
+        assertThat(cache.stats().hitCount() - hits).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CacheConfig.STUDENT_CACHE)
+                .tag("result", "hit").functionCounter().count()).isGreaterThanOrEqualTo(1);
+        
+        //when: 수정 후 다시 조회
+        studentService.updateStudent(savedId, StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build());
+        
+        //then: 캐시가 비워져 수정된 정보 조회
+        assertThat(studentService.findStudent(savedId).getStudentName()).isEqualTo("최규환");
+        
+        //when: 삭제
+        studentService.deleteStudent(savedId);
+        
+        //then: 캐시에도 남지 않음
+        assertThat(cache.getIfPresent(savedId)).isNull();
+        assertThrows(jakarta.persistence.EntityNotFoundException.class,
+                () -> studentService.findStudent(savedId));
+    }
+    
+    @Test
+    @DisplayName("수정 커밋 전에 읽은 값이 제거 이후에 캐시에 들어가도 다시 제거된다.")
+    public void staleCachePutTest() {
+        //given: 학생 등록, 조회 시작 시점의 세대
+        Long savedId = studentService.addStudent(StudentDto.builder()
+                .studentName("장동현")
+                .age(29)
+                .major("경영학과")
+                .build());
+        StudentDto stale = studentService.findStudent(savedId);
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENT_CACHE);
+        cache.clear();
+        long generation = cacheInvalidator.generation(savedId);
+        
+        //when: 조회가 끝나기 전에 수정이 커밋되고(캐시 제거), 그 뒤에 수정 전 값이 캐시에 들어감
+        studentService.updateStudent(savedId, StudentDto.builder()
+                .studentName("최규환")
+                .age(28)
+                .major("기계공학과")
+                .build());
+        cache.put(savedId, stale);
+        cacheInvalidator.evictIfChanged(savedId, generation);
+        
+        //then: 오래된 값은 남지 않고 수정된 정보 조회
+        assertThat(cache.get(savedId)).isNull();
+        assertThat(lookupCoalescer.findStudent(savedId).getStudentName()).isEqualTo("최규환");
+        
+        //when & then: 바뀐 게 없으면 캐시에 그대로 둠
+        cacheInvalidator.evictIfChanged(savedId, cacheInvalidator.generation(savedId));
+        assertThat(cache.get(savedId)).isNotNull();
+    }
+    
+    @Test
+    @DisplayName("이름 자동완성 인덱스는 등록/수정/삭제가 커밋되면 갱신된다.")
+    public void autocompleteTest() {
+        //given: 이름 앞부분이 같은 학생 2명과 다른 학생 1명 등록
+        Long firstId = studentService.addStudent(StudentDto.builder().studentName("가나다").age(20).major("경영학과").build());
+        Long secondId = studentService.addStudent(StudentDto.builder().studentName("가나라").age(21).major("경영학과").build());
+        studentService.addStudent(StudentDto.builder().studentName("가마바").age(22).major("경영학과").build());
+        
+        //when: 앞부분으로 자동완성
+        //then: 이름 순으로 2명, limit 적용
+        assertThat(studentService.autocomplete("가나", null))
+                .extracting(StudentNameDto::getStudentId)
+                .containsExactly(firstId, secondId);
+        assertThat(studentService.autocomplete("가나", 1)).hasSize(1);
+        
+        //when: 이름 일부 수정 (이벤트에 이름이 없어서 다시 읽음)
+        studentService.patchStudent(firstId, StudentPatchDto.builder()
+                .studentName("하나다")
+                .build());
+        
+        //then: 이전 이름으로는 안 나오고 새 이름으로 나옴
+        assertThat(studentService.autocomplete("가나", null))
+                .extracting(StudentNameDto::getStudentId)
+                .containsExactly(secondId);
+        assertThat(studentService.autocomplete("하나", null))
+                .extracting(StudentNameDto::getStudentId)
+                .containsExactly(firstId);
+        
+        //when: 삭제
+        studentService.deleteStudent(secondId);
+        
+        //then: 자동완성에서 빠짐
+        assertThat(studentService.autocomplete("가나", null)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("일괄 삭제 뒤 다시 채운 인덱스로 교체되고, 교체 전까지는 기존 인덱스가 응답한다.")
+    public void autocompleteRebuildTest() throws InterruptedException {
+        //given: 이름 앞부분이 같은 학생 2명 등록
+        studentService.addStudent(StudentDto.builder().studentName("다라마").age(20).major("자동완성학과").build());
+        Long secondId = studentService.addStudent(StudentDto.builder().studentName("다라바").age(21).major("경영학과").build());
+        
+        //when: 전공으로 일괄 삭제 (어느 학생이 지워졌는지 이벤트에 없음)
+        studentService.deleteStudents(StudentBulkDeleteDto.builder().major("자동완성학과").build());
+        
+        //then: 다시 채운 인덱스에는 남은 학생만 있음
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (studentService.autocomplete("다라", null).size() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(studentService.autocomplete("다라", null))
+                .extracting(StudentNameDto::getStudentId)
+                .containsExactly(secondId);
+    }
+    
+    @Test
+    @DisplayName("학생 통계는 등록/수정/삭제가 커밋되면 DB 조회 없이 갱신된다.")
+    public void statisticsTest() throws InterruptedException {
+        //given: 현재 통계 (다른 테스트가 이벤트 없이 지운 학생이 남아 있지 않도록 새로 채움)
+        statistics.rebuild();
+        StudentStatsDto before = studentService.findStatistics();
+        
+        //when: 같은 전공 2명 등록
+        Long firstId = studentService.addStudent(StudentDto.builder().studentName("통계1").age(131).major("통계학과").build());
+        Long secondId = studentService.addStudent(StudentDto.builder().studentName("통계2").age(132).major("통계학과").build());
+        
+        //then: 전체, 전공별, 나이별 수 증가
+        StudentStatsDto added = studentService.findStatistics();
+        assertThat(added.getTotal()).isEqualTo(before.getTotal() + 2);
+        assertThat(added.getCountByMajor()).containsEntry("통계학과", 2L);
+        assertThat(added.getCountByAge()).containsEntry(131, 1L).containsEntry(132, 1L);
+        
+        //when: 한 명은 전공/나이 수정, 다른 전공으로 일부 수정
+        studentService.patchStudent(firstId, StudentPatchDto.builder()
+                .age(133)
+                .major("수학과")
+                .build());
+        
+        //then: 이전 값을 모르므로 백그라운드에서 새로 채운 뒤 이전 칸에서 빠지고 새 칸에 더해짐, 전체 수는 그대로
+        StudentStatsDto patched = awaitStatistics(stats -> stats.getCountByAge().containsKey(133));
+        assertThat(patched.getTotal()).isEqualTo(before.getTotal() + 2);
+        assertThat(patched.getCountByMajor()).containsEntry("통계학과", 1L).containsEntry("수학과", 1L);
+        assertThat(patched.getCountByAge()).doesNotContainKey(131).containsEntry(133, 1L);
+        
+        //when: 다른 한 명은 전체 수정
+        studentService.updateStudent(secondId, StudentDto.builder().studentName("통계2").age(134).major("응용통계학과").build());
+        
+        //then: 이전 칸(132, 통계학과)에서 빠짐
+        StudentStatsDto updated = awaitStatistics(stats -> stats.getCountByAge().containsKey(134));
+        assertThat(updated.getCountByMajor()).doesNotContainKey("통계학과").containsEntry("응용통계학과", 1L);
+        assertThat(updated.getCountByAge()).doesNotContainKey(132).containsEntry(134, 1L);
+        
+        //when: 삭제
+        studentService.deleteStudent(firstId);
+        
+        //then: 빠진 칸은 응답에서 생략
+        StudentStatsDto deleted = awaitStatistics(stats -> !stats.getCountByAge().containsKey(133));
+        assertThat(deleted.getTotal()).isEqualTo(before.getTotal() + 1);
+        assertThat(deleted.getCountByMajor()).doesNotContainKey("수학과");
+        assertThat(deleted.getCountByAge()).doesNotContainKey(133);
+    }
+    
+    @Test
+    @DisplayName("목록 ETag는 등록/수정/삭제가 커밋될 때마다 바뀐다.")
+    public void modificationCounterTest() {
+        //given: 현재 목록 ETag
+        String initial = modificationCounter.etag();
+        
+        //when & then: 등록, 수정, 삭제할 때마다 바뀜
+        Long savedId = studentService.addStudent(StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        String added = modificationCounter.etag();
+        assertThat(added).isNotEqualTo(initial);
+        
+        studentService.updateStudent(savedId, StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build());
+        String updated = modificationCounter.etag();
+        assertThat(updated).isNotEqualTo(added);
+        
+        studentService.deleteStudent(savedId);
+        assertThat(modificationCounter.etag()).isNotEqualTo(updated);
+        
+        //실패 케이스 - 롤백된 수정은 ETag를 바꾸지 않음
+        String beforeFailure = modificationCounter.etag();
+        assertThrows(jakarta.persistence.EntityNotFoundException.class,
+                () -> studentService.deleteStudent(savedId));
+        assertThat(modificationCounter.etag()).isEqualTo(beforeFailure);
+    }
+    
+    @Test
+    @DisplayName("비동기 등록은 백그라운드에서 모아서 저장하고, 실패한 건만 실패로 남긴다.")
+    public void ingestionTest() throws Exception {
+        //given: 같은 학생 2건이 들어간 등록 3건
+        StudentDto first = StudentDto.builder().studentName("장동현").age(29).major("경영학과").build();
+        StudentDto second = StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build();
+        
+        //when: 접수
+        List<StudentIngestionDto> queued = List.of(
+                ingestionQueue.submit(first), ingestionQueue.submit(second), ingestionQueue.submit(first));
+        
+        //then: 바로 대기 상태로 접수됨
+        assertThat(queued).extracting(StudentIngestionDto::getStatus)
+                .containsOnly(StudentIngestionDto.Status.QUEUED);
+        
+        //then: 처리되면 2건 저장, 중복 1건은 실패
+        List<StudentIngestionDto> done = awaitIngestion(queued);
+        assertThat(done).extracting(StudentIngestionDto::getStatus).containsExactly(
+                StudentIngestionDto.Status.SAVED,
+                StudentIngestionDto.Status.SAVED,
+                StudentIngestionDto.Status.FAILED);
+        assertThat(studentService.findStudent(done.get(0).getStudentId()).getStudentName()).isEqualTo("장동현");
+    }
+    
+    @Test
+    @DisplayName("비동기 등록 큐가 가득 차면 거절하고, 종료할 때 남은 것을 모두 저장한다.")
+    public void ingestionBackpressureAndDrainTest() {
+        //given: 크기 1, 대기 시간이 긴 큐 (아직 시작 전이라 꺼내가지 않음)
+        StudentIngestionQueue queue = new StudentIngestionQueue(studentService,
+                new SimpleMeterRegistry(),
+                1, 10, Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofMinutes(1));
+        StudentIngestionDto queued = queue.submit(
+                StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        
+        //then: 두 번째는 거절
+        assertThrows(StudentIngestionRejectedException.class,
+                () -> queue.submit(StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build()));
+        
+        //when: 시작 후 바로 종료 (대기 시간 1분을 기다리지 않음)
+        queue.start();
+        queue.stop();
+        
+        //then: 남아 있던 등록이 저장됨, 종료 후에는 접수 안 함
+        assertThat(queue.find(queued.getTrackingId())).get()
+                .extracting(StudentIngestionDto::getStatus)
+                .isEqualTo(StudentIngestionDto.Status.SAVED);
+        assertThrows(StudentIngestionRejectedException.class,
+                () -> queue.submit(StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build()));
+    }
+    
+    @Test
+    @DisplayName("변경 피드는 커밋된 변경을 보내고, Last-Event-ID 다음 변경부터 이어서 보낸다.")
+    public void changeFeedTest() throws Exception {
+        //given: 구독
+        RecordingEmitter first = new RecordingEmitter(null);
+        changeFeed.subscribe(null, first);
+        
+        //when: 등록, 수정, 삭제
+        Long studentId = studentService.addStudent(StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        studentService.updateStudent(studentId, StudentDto.builder().studentName("장동현").age(30).major("경영학과").build());
+        studentService.deleteStudent(studentId);
+        
+        //then: 순서대로 3건 받음
+        assertThat(first.await(3)).extracting(SentEvent::name).containsExactly("created", "updated", "deleted");
+        assertThat(first.events.get(0).data()).contains("\"studentName\":\"장동현\"");
+        
+        //when: 첫 변경의 ID로 다시 연결
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        changeFeed.subscribe(first.events.get(0).id(), resumed);
+        
+        //then: 그 다음 변경부터 받음
+        assertThat(resumed.await(2)).extracting(SentEvent::id)
+                .containsExactly(first.events.get(1).id(), first.events.get(2).id());
+        
+        //when: 알 수 없는 ID로 다시 연결
+        RecordingEmitter unknown = new RecordingEmitter(null);
+        changeFeed.subscribe("재시작-전-1", unknown);
+        
+        //then: reset (목록을 다시 조회해야 함), ID는 마지막 변경
+        assertThat(unknown.await(1)).extracting(SentEvent::name).containsExactly(StudentChangeFeed.RESET_EVENT);
+        assertThat(unknown.events.get(0).id()).isEqualTo(first.events.get(2).id());
+        
+        first.disconnect();
+        resumed.disconnect();
+        unknown.disconnect();
+    }
+    
+    @Test
+    @DisplayName("변경 피드는 느린 구독자를 끊고, 링 버퍼에서 밀려난 ID로 다시 연결하면 reset을 보낸다.")
+    public void changeFeedSlowSubscriberTest() throws Exception {
+        //given: 링 버퍼 4칸, 구독자 큐 2칸 피드 / 보내기가 막힌 구독자
+        StudentChangeFeed feed = new StudentChangeFeed(new SimpleMeterRegistry(), 4, 2,
+                Duration.ofSeconds(10), Duration.ofMinutes(1));
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        feed.subscribe(null, slow);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        feed.subscribe(null, fast);
+        
+        //when: 변경 6건 (느린 구독자는 보내는 중 1건 + 큐 2건을 넘음, 빠른 구독자는 1건씩 받는 대로)
+        for (int id = 1; id <= 6; id++) {
+            feed.onStudentChanged(StudentChangedEvent.deleted((long) id, null));
+            assertThat(fast.await(id)).hasSize(id);
+        }
+        
+        //then: 쓰기는 막히지 않고 느린 구독자만 끊김
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        
+        //when: 링 버퍼에서 밀려난 첫 변경의 ID로 다시 연결
+        RecordingEmitter late = new RecordingEmitter(null);
+        feed.subscribe(fast.events.get(0).id(), late);
+        
+        //then: reset
+        assertThat(late.await(1)).extracting(SentEvent::name).containsExactly(StudentChangeFeed.RESET_EVENT);
+        
+        feed.destroy();
+    }
+    
+    @Test
+    @DisplayName("CSV 파일을 가져오면 검증에 실패한 줄은 거절하고, 중복은 건너뛰고 나머지를 저장한다.")
+    public void importCsvTest(@TempDir Path dir) throws Exception {
+        //given: DB에 이미 있는 학생 / 헤더(BOM), 따옴표 필드, 중복, 잘못된 줄, CRLF, 마지막 줄 줄바꿈 없음
+        studentService.addStudent(StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build());
+        Path file = dir.resolve("students.csv");
+        Files.writeString(file, "\uFEFF이름,나이,전공\n"
+                + "장동현,29,경영학과\n"
+                + "\"김, 철수\",21,\"컴퓨터\"\"공학\"\"\"\n"
+                + "최규환,28,기계공학과\n"
+                + "장동현,29,경영학과\n"
+                + "이영희,abc,수학과\n"
+                + ",20,수학과\n"
+                + "박민수,20\n"
+                + "가나다라마바사아자차카타파하가나다라마바사,20,수학과\n"
+                + "이영희,20,아주아주아주아주아주아주아주긴이름의전공학과\n"
+                + "정수진, 22 ,물리학과\r\n"
+                + "한지민,23,화학과");
+        
+        //when: 2줄씩 저장, 128바이트씩 매핑 (줄이 매핑 경계에 걸치도록)
+        StudentCsvImporter importer = new StudentCsvImporter(studentService, 2, DataSize.ofBytes(128));
+        StudentImportResultDto result = importer.importFile(file);
+        
+        //then: 12줄 중 저장 4, 중복 2, 거절 5 (이름/전공이 컬럼 크기 20자를 넘는 줄 포함)
+        assertThat(result.getLines()).isEqualTo(12);
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(5);
+        assertThat(studentRepository.existsByStudentNameAndAgeAndMajor("김, 철수", 21, "컴퓨터\"공학\"")).isTrue();
+        assertThat(studentRepository.existsByStudentNameAndAgeAndMajor("정수진", 22, "물리학과")).isTrue();
+        assertThat(studentRepository.existsByStudentNameAndAgeAndMajor("한지민", 23, "화학과")).isTrue();
+        assertThat(studentRepository.count()).isEqualTo(5);
+        
+        //then: 거절한 줄은 줄 번호, 이유와 함께 기록
+        assertThat(Files.readAllLines(dir.resolve("students.csv" + StudentCsvImporter.REJECTED_SUFFIX)))
+                .containsExactly("6,나이가 숫자가 아님,이영희,abc,수학과",
+                        "7,이름 없음,,20,수학과",
+                        "8,필드 수가 3개가 아님,박민수,20",
+                        "9,이름이 20자를 넘음,가나다라마바사아자차카타파하가나다라마바사,20,수학과",
+                        "10,전공이 20자를 넘음,이영희,20,아주아주아주아주아주아주아주긴이름의전공학과");
+    }
+    
+    @Test
+    @DisplayName("CSV 가져오기는 체크포인트 다음 줄부터 이어서 가져온다.")
+    public void importCsvResumeTest(@TempDir Path dir) throws Exception {
+        //given: 첫 줄까지 저장하고 멈춘 체크포인트
+        Path file = dir.resolve("students.csv");
+        String firstLine = "장동현,29,경영학과\n";
+        Files.writeString(file, firstLine + "최규환,28,기계공학과\n");
+        Files.writeString(dir.resolve("students.csv" + StudentCsvImporter.CHECKPOINT_SUFFIX),
+                firstLine.getBytes(StandardCharsets.UTF_8).length + ",1");
+        StudentCsvImporter importer = new StudentCsvImporter(studentService, 1000, DataSize.ofMegabytes(1));
+        
+        //when: 가져오기
+        StudentImportResultDto resumed = importer.importFile(file);
+        
+        //then: 두 번째 줄부터 가져옴
+        assertThat(resumed.getLines()).isEqualTo(1);
+        assertThat(studentRepository.existsByStudentNameAndAgeAndMajor("장동현", 29, "경영학과")).isFalse();
+        assertThat(studentRepository.existsByStudentNameAndAgeAndMajor("최규환", 28, "기계공학과")).isTrue();
+        
+        //when: 파일 뒤에 줄을 추가하고 다시 가져오기
+        Files.writeString(file, "김민지,25,디자인학과\n", StandardOpenOption.APPEND);
+        StudentImportResultDto appended = importer.importFile(file);
+        
+        //then: 추가한 줄만 가져옴
+        assertThat(appended.getLines()).isEqualTo(1);
+        assertThat(appended.getImported()).isEqualTo(1);
+        assertThat(studentRepository.count()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("목록 스냅샷은 커밋 이후 다시 만들어지고, 학번 커서로 잘라서 JSON 배열로 응답한다.")
+    public void listSnapshotTest() throws Exception {
+        //given: 학생 3명
+        Long first = studentService.addStudent(StudentDto.builder().studentName("장동현").age(29).major("경영학과").build());
+        Long second = studentService.addStudent(StudentDto.builder().studentName("최규환").age(28).major("기계공학과").build());
+        studentService.addStudent(StudentDto.builder().studentName("김민지").age(25).major("디자인학과").build());
+        
+        //when: 스냅샷이 만들어질 때까지 첫 페이지(2명) 조회
+        StudentListSnapshot.Page page = awaitSnapshot(() -> listSnapshot.page(null, 2));
+        
+        //then: 앞의 2명, 다음 커서는 두 번째 학번, ETag는 지금 목록 ETag
+        assertThat(readNames(page)).containsExactly("장동현", "최규환");
+        assertThat(page.nextCursor()).isEqualTo(second);
+        assertThat(page.etag()).isEqualTo(modificationCounter.etag());
+        
+        //then: 다음 페이지는 나머지 1명, 마지막이라 커서 없음
+        StudentListSnapshot.Page next = listSnapshot.page(page.nextCursor(), 2).orElseThrow();
+        assertThat(readNames(next)).containsExactly("김민지");
+        assertThat(next.nextCursor()).isNull();
+        assertThat(readNames(listSnapshot.page(first, 10).orElseThrow())).containsExactly("최규환", "김민지");
+        
+        //when: 1명 더 등록
+        studentService.addStudent(StudentDto.builder().studentName("이영희").age(21).major("수학과").build());
+        
+        //then: 다시 만들어진 스냅샷의 전체 목록에 포함
+        StudentListSnapshot.Page all = awaitSnapshot(listSnapshot::all);
+        assertThat(readNames(all)).containsExactly("장동현", "최규환", "김민지", "이영희");
+        assertThat(all.nextCursor()).isNull();
+    }
+    
+    // 모두 처리될 때까지 최대 5초 대기
+    private List<StudentIngestionDto> awaitIngestion(
+            List<StudentIngestionDto> queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            List<StudentIngestionDto> current = queued.stream()
+                    .map(ingestion -> ingestionQueue.find(ingestion.getTrackingId()).orElseThrow())
+                    .toList();
+            boolean pending = current.stream().anyMatch(ingestion ->
+                    ingestion.getStatus() == StudentIngestionDto.Status.QUEUED);
+            if (!pending || System.nanoTime() > deadline) {
+                return current;
+            }
+            Thread.sleep(20);
+        }
+    }
+    
+    // 조건에 맞는 통계가 나올 때까지 최대 5초 대기 (다시 채우기는 백그라운드)
+    private StudentStatsDto awaitStatistics(Predicate<StudentStatsDto> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            StudentStatsDto stats = studentService.findStatistics();
+            if (condition.test(stats) || System.nanoTime() > deadline) {
+                return stats;
+            }
+            Thread.sleep(20);
+        }
+    }
+    
+    // 지금 목록 ETag로 만든 스냅샷이 나올 때까지 최대 5초 대기
+    private StudentListSnapshot.Page awaitSnapshot(
+            Supplier<Optional<StudentListSnapshot.Page>> query) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            Optional<StudentListSnapshot.Page> page = query.get();
+            if (page.isPresent() && page.get().etag().equals(modificationCounter.etag())) {
+                return page.get();
+            }
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("목록 스냅샷이 만들어지지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+    }
+    
+    private List<String> readNames(StudentListSnapshot.Page page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        page.writeTo(out);
+        assertThat(out.size()).isEqualTo(page.contentLength());
+        StudentDto[] students = objectMapper.readValue(out.toByteArray(), StudentDto[].class);
+        return Arrays.stream(students).map(StudentDto::getStudentName).toList();
+    }
+    
+    private record SentEvent(String id, String name, String data) {
+    }
+    
+    // 보낸 이벤트를 기록하는 SseEmitter (stuck이 있으면 첫 전송에서 막힘)
+    private static class RecordingEmitter extends SseEmitter {
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+        
+        private final List<SentEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch stuck;
+        private volatile boolean disconnected;
+        
+        private RecordingEmitter(CountDownLatch stuck) {
+            this.stuck = stuck;
+        }
+        
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("연결 끊김");
+            }
+            if (stuck != null) {
+                try {
+                    stuck.await();
+                } catch (InterruptedException e) {
+                    throw new IOException("전송 중단", e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                text.append(data.getData() instanceof String value ? value : OBJECT_MAPPER.writeValueAsString(data.getData()));
+            }
+            Matcher id = Pattern.compile("^id:(.*)$", Pattern.MULTILINE).matcher(text);
+            Matcher name = Pattern.compile("^event:(.*)$", Pattern.MULTILINE).matcher(text);
+            if (id.find() && name.find()) {
+                events.add(new SentEvent(id.group(1), name.group(1), text.toString()));
+            }
+        }
+        
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+        
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+        }
+        
+        // 연결이 끊긴 것처럼 다음 전송부터 실패
+        private void disconnect() {
+            disconnected = true;
+        }
+        
+        // count건을 받을 때까지 최대 5초 대기
+        private List<SentEvent> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            return events;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.student.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimitTest {
+    
+    @Test
+    @DisplayName("처리 중인 요청이 한도만큼 있으면 바로 거절하고, 반납하면 다시 허가한다.")
+    public void rejectOverLimitTest() {
+        //given: 한도 2
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, Duration.ofMillis(100), 2.0, 0.5);
+        
+        //when
+        AdaptiveConcurrencyLimit.Permit first = limit.tryAcquire().orElseThrow();
+        AdaptiveConcurrencyLimit.Permit second = limit.tryAcquire().orElseThrow();
+        
+        //then: 세 번째는 거절
+        assertThat(limit.tryAcquire()).isEmpty();
+        assertThat(limit.getInflight()).isEqualTo(2);
+        
+        //when: 하나 반납 (여러 번 호출해도 한 번만 반영)
+        first.ignore();
+        first.ignore();
+        
+        //then
+        assertThat(limit.getInflight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isPresent();
+        second.ignore();
+    }
+    
+    @Test
+    @DisplayName("빠른 응답이 이어지면 한도를 늘리고, 느린 응답이나 실패가 오면 한도를 곱으로 줄인다.")
+    public void aimdTest() {
+        //given: 시각을 직접 정하는 한도 4 (최대 6)
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 6, Duration.ofMillis(100), 2.0, 0.5, clock::get);
+        
+        //when: 한도를 다 쓰면서 빠르게 응답하는 묶음을 여러 번
+        for (int round = 0; round < 20; round++) {
+            List<AdaptiveConcurrencyLimit.Permit> permits = acquireAll(limit);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            permits.forEach(AdaptiveConcurrencyLimit.Permit::success);
+        }
+        
+        //then: 최대 한도까지 늘어남
+        assertThat(limit.getLimit()).isEqualTo(6);
+        assertThat(limit.isAtMaxLimit()).isTrue();
+        
+        //when: 같은 시점에 시작한 요청들이 모두 느리게 응답
+        List<AdaptiveConcurrencyLimit.Permit> slow = acquireAll(limit);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        slow.forEach(AdaptiveConcurrencyLimit.Permit::success);
+        
+        //then: 한 번만 줄어듦 (6 → 3)
+        assertThat(limit.getLimit()).isEqualTo(3);
+        assertThat(limit.isAtMaxLimit()).isFalse();
+        
+        //when: 줄인 뒤에 시작한 요청이 실패
+        limit.tryAcquire().orElseThrow().dropped();
+        
+        //then: 다시 줄어듦, 최소 한도 밑으로는 줄지 않음
+        assertThat(limit.getLimit()).isEqualTo(1);
+        limit.tryAcquire().orElseThrow().dropped();
+        assertThat(limit.getLimit()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("기준보다 빨라도 평소 응답 시간보다 계속 느리면 한도를 줄이고, 한 번 느린 응답으로는 줄이지 않는다.")
+    public void gradientTest() {
+        //given: 평소 10ms로 응답하는 한도 4 (느린 기준 100ms, 평소의 2배를 넘으면 혼잡)
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 4, Duration.ofMillis(100), 2.0, 0.5, clock::get);
+        respond(limit, clock, 10, 10);
+        
+        //when: 40ms 응답 한 번 (기준 100ms보다는 빠름)
+        respond(limit, clock, 1, 40);
+        
+        //then: 평활값은 아직 평소의 2배 밑이라 그대로
+        assertThat(limit.getLimit()).isEqualTo(4);
+        
+        //when: 40ms 응답이 이어짐
+        respond(limit, clock, 5, 40);
+        
+        //then: 기준보다 빠르지만 평소보다 느려졌으므로 한도 감소
+        assertThat(limit.getLimit()).isLessThan(4);
+    }
+    
+    @Test
+    @DisplayName("한도를 거의 쓰지 않을 때는 빠른 응답이 와도 한도를 늘리지 않는다.")
+    public void noIncreaseWhenIdleTest() {
+        //given: 한도 10
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, Duration.ofMillis(100), 2.0, 0.5, clock::get);
+        
+        //when: 한 번에 하나씩만 처리
+        for (int i = 0; i < 100; i++) {
+            AdaptiveConcurrencyLimit.Permit permit = limit.tryAcquire().orElseThrow();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            permit.success();
+        }
+        
+        //then
+        assertThat(limit.getLimit()).isEqualTo(10);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(0, 0, 10, Duration.ofMillis(100), 2.0, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    // 하나씩 count번, 각각 millis만큼 걸려서 응답
+    private static void respond(AdaptiveConcurrencyLimit limit, AtomicLong clock, int count, long millis) {
+        for (int i = 0; i < count; i++) {
+            AdaptiveConcurrencyLimit.Permit permit = limit.tryAcquire().orElseThrow();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+            permit.success();
+        }
+    }
+    
+    private static List<AdaptiveConcurrencyLimit.Permit> acquireAll(AdaptiveConcurrencyLimit limit) {
+        List<AdaptiveConcurrencyLimit.Permit> permits = new ArrayList<>();
+        while (true) {
+            Optional<AdaptiveConcurrencyLimit.Permit> permit = limit.tryAcquire();
+            if (permit.isEmpty()) {
+                return permits;
+            }
+            permits.add(permit.get());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.student.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CoalescingTaskTest {
+    
+    @Test
+    @DisplayName("실행 중에 여러 번 요청하면 끝난 뒤 한 번만 더 실행한다.")
+    public void coalesceTest() throws Exception {
+        //given: 첫 실행은 막아 두는 작업
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        CoalescingTask task = new CoalescingTask("테스트", runnable -> {
+            submitted.incrementAndGet();
+            executor.execute(runnable);
+        }, () -> {
+            if (runs.incrementAndGet() == 1) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                secondDone.countDown();
+            }
+        });
+        
+        //when: 실행 중에 100번 요청
+        task.request();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 100; i++) {
+            task.request();
+        }
+        release.countDown();
+        
+        //then: 실행기에는 하나만 넣고, 처음 실행 + 한 번 더
+        assertThat(secondDone.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(runs).hasValue(2);
+        assertThat(submitted).hasValue(1);
+    }
+    
+    @Test
+    @DisplayName("작업이 실패해도 다음 요청은 다시 실행한다.")
+    public void failureTest() {
+        //given: 항상 실패하는 작업, 요청한 스레드에서 바로 실행
+        AtomicInteger runs = new AtomicInteger();
+        CoalescingTask task = new CoalescingTask("테스트", Runnable::run, () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("실패");
+        });
+        
+        //when
+        task.request();
+        task.request();
+        
+        //then
+        assertThat(runs).hasValue(2);
+    }
+}
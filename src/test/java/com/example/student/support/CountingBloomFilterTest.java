@@ -0,0 +1,54 @@
+package com.example.student.support;
+
+import com.example.student.domain.StudentKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CountingBloomFilterTest {
+    
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있음으로, 삭제하면 없음으로 판단한다.")
+    public void addAndRemoveTest() {
+        //given: 1만 건 기준 필터
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        StudentKey key = new StudentKey("장동현", 29, "경영학과");
+        
+        //when: 추가
+        filter.add(key.hash64());
+        
+        //then: 있을 수도 있음
+        assertThat(filter.mightContain(key.hash64())).isTrue();
+        
+        //when: 삭제
+        filter.remove(key.hash64());
+        
+        //then: 없음
+        assertThat(filter.mightContain(key.hash64())).isFalse();
+    }
+    
+    @Test
+    @DisplayName("거짓 양성 비율이 설정값 근처로 유지된다.")
+    public void falsePositiveRateTest() {
+        //given: 1만 건을 채운 필터
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(new StudentKey("학생" + i, 20, "경영학과").hash64());
+        }
+        
+        //when: 추가하지 않은 1만 건 조회
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(new StudentKey("학생" + i, 21, "경영학과").hash64())) {
+                falsePositives++;
+            }
+        }
+        
+        //then: 거짓 음성은 없고, 거짓 양성은 2% 미만
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(new StudentKey("학생" + i, 20, "경영학과").hash64())).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
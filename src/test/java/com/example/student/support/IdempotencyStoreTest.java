@@ -0,0 +1,101 @@
+package com.example.student.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class IdempotencyStoreTest {
+    
+    @Test
+    @DisplayName("처리 중인 키로 동시에 요청하면 처음 요청이 끝날 때까지 기다렸다가 같은 결과를 받는다.")
+    public void concurrentDuplicateTest() throws Exception {
+        //given: 첫 요청이 키를 차지한 상태
+        IdempotencyStore<String> store = new IdempotencyStore<>(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        IdempotencyStore.Claim<String> owner = store.claim("key-1", "POST /students");
+        assertThat(owner.status()).isEqualTo(IdempotencyStore.Status.OWNER);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        
+        //when: 같은 키로 5개 요청이 대기하는 동안 첫 요청 완료
+        List<Future<IdempotencyStore.Claim<String>>> waiting = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            waiting.add(executor.submit(() -> store.claim("key-1", "POST /students")));
+        }
+        Thread.sleep(50);
+        owner.complete("201 학번 1");
+        
+        //then: 모두 저장된 결과를 받음, 이후 요청도 같음
+        for (Future<IdempotencyStore.Claim<String>> claim : waiting) {
+            assertThat(claim.get(5, TimeUnit.SECONDS).status()).isEqualTo(IdempotencyStore.Status.REPLAY);
+            assertThat(claim.get().value()).isEqualTo("201 학번 1");
+        }
+        assertThat(store.claim("key-1", "POST /students").value()).isEqualTo("201 학번 1");
+        assertThat(store.size()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("처음 요청이 결과를 포기하면 다음 요청이 다시 처리한다.")
+    public void abandonTest() throws Exception {
+        //given: 첫 요청이 키를 차지하고 대기 중인 요청이 있는 상태
+        IdempotencyStore<String> store = new IdempotencyStore<>(4, 100, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        IdempotencyStore.Claim<String> owner = store.claim("key-1", "POST /students");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<IdempotencyStore.Claim<String>> waiting = executor.submit(() -> store.claim("key-1", "POST /students"));
+        Thread.sleep(50);
+        
+        //when: 첫 요청이 실패해서 포기
+        owner.abandon();
+        
+        //then: 대기하던 요청이 키를 차지
+        assertThat(waiting.get(5, TimeUnit.SECONDS).status()).isEqualTo(IdempotencyStore.Status.OWNER);
+        executor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 MISMATCH, 처리가 대기 시간 안에 끝나지 않으면 IN_PROGRESS를 돌려준다.")
+    public void mismatchAndTimeoutTest() throws Exception {
+        //given: 대기 시간 50ms, 첫 요청이 처리 중
+        IdempotencyStore<String> store = new IdempotencyStore<>(4, 100, Duration.ofMinutes(1), Duration.ofMillis(50));
+        store.claim("key-1", "POST /students 장동현");
+        
+        //when & then: 다른 내용은 MISMATCH, 같은 내용은 기다리다 IN_PROGRESS
+        assertThat(store.claim("key-1", "POST /students 최규환").status()).isEqualTo(IdempotencyStore.Status.MISMATCH);
+        assertThat(store.claim("key-1", "POST /students 장동현").status()).isEqualTo(IdempotencyStore.Status.IN_PROGRESS);
+    }
+    
+    @Test
+    @DisplayName("보관 기간이 지나거나 구역이 가득 차면 오래된 키부터 제거한다.")
+    public void evictionTest() throws Exception {
+        //given: 구역 1개, 최대 2건, 보관 1분, 시간은 직접 넘김
+        AtomicLong now = new AtomicLong();
+        IdempotencyStore<String> store = new IdempotencyStore<>(1, 2, Duration.ofMinutes(1), Duration.ofSeconds(5), now::get);
+        store.claim("key-1", "a").complete("1");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        store.claim("key-2", "b").complete("2");
+        
+        //when: 20초 뒤 3번째 키
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+        store.claim("key-3", "c").complete("3");
+        
+        //then: 가장 오래된 key-1 제거 → 다시 차지 가능
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.claim("key-2", "b").status()).isEqualTo(IdempotencyStore.Status.REPLAY);
+        
+        //when: 40초 더 지남 (key-2는 1분 지나서 만료, key-3은 남음)
+        now.addAndGet(Duration.ofSeconds(40).toNanos());
+        
+        //then: key-2는 다시 처리, key-3은 그대로
+        assertThat(store.claim("key-3", "c").status()).isEqualTo(IdempotencyStore.Status.REPLAY);
+        assertThat(store.claim("key-2", "b").status()).isEqualTo(IdempotencyStore.Status.OWNER);
+    }
+}
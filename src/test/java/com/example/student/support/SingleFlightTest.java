@@ -0,0 +1,83 @@
+package com.example.student.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+    
+    @Test
+    @DisplayName("같은 key로 동시에 요청하면 loader는 한 번만 실행된다.")
+    public void coalesceTest() throws Exception {
+        //given: 첫 로딩이 끝나지 않도록 막아둔 loader
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        
+        //when: 10개 스레드가 같은 key로 동시에 요청
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "장동현";
+            })));
+        }
+        // 나머지 요청이 모두 대기할 때까지 기다린 뒤 로딩 완료
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.followerCount() < 9 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        
+        //then: 모두 같은 결과, loader는 1번만 실행
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("장동현");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.leaderCount()).isEqualTo(1);
+        assertThat(singleFlight.followerCount()).isEqualTo(9);
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("로딩이 끝나면 다음 요청은 새로 loader를 실행하고, 예외도 그대로 전달된다.")
+    public void reloadAndExceptionTest() {
+        //given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        
+        //when: 순서대로 두 번 요청
+        singleFlight.execute(1L, () -> "장동현");
+        singleFlight.execute(1L, () -> "최규환");
+        
+        //then: 결과를 캐시하지 않으므로 loader 2번 실행
+        assertThat(singleFlight.leaderCount()).isEqualTo(2);
+        
+        //when: loader에서 예외 발생
+        Throwable thrown = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute(2L, () -> {
+                    throw new IllegalStateException("조회 실패");
+                }));
+        
+        //then: 예외 그대로 전달, 진행 중 목록에서 제거
+        assertThat(thrown.getMessage()).isEqualTo("조회 실패");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
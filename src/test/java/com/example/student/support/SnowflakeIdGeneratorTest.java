@@ -0,0 +1,85 @@
+package com.example.student.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SnowflakeIdGeneratorTest {
+    // 2025-01-01T00:00:00Z
+    private static final long NOW = 1_735_689_600_000L;
+    
+    @Test
+    @DisplayName("생성한 ID에서 샤드 번호를 다시 꺼낼 수 있고, 샤드 번호가 클수록 ID도 크다.")
+    public void shardOfTest() {
+        //given
+        SnowflakeIdGenerator ids = new SnowflakeIdGenerator(3, () -> NOW);
+        
+        //when
+        long first = ids.next(0);
+        long second = ids.next(1);
+        long last = ids.next(SnowflakeIdGenerator.MAX_SHARDS - 1);
+        
+        //then: 양수이고, 샤드 번호가 그대로 들어 있음
+        assertThat(first).isPositive();
+        assertThat(last).isPositive();
+        assertThat(SnowflakeIdGenerator.shardOf(first)).isZero();
+        assertThat(SnowflakeIdGenerator.shardOf(second)).isEqualTo(1);
+        assertThat(SnowflakeIdGenerator.shardOf(last)).isEqualTo(SnowflakeIdGenerator.MAX_SHARDS - 1);
+        assertThat(first).isLessThan(second).isLessThan(last);
+        
+        //then: 샤드 번호가 범위를 벗어나면 예외
+        assertThatThrownBy(() -> ids.next(SnowflakeIdGenerator.MAX_SHARDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("같은 ms에 순번을 다 쓰거나 시계가 뒤로 가도 ID는 계속 증가한다.")
+    public void monotonicTest() {
+        //given: 시각을 직접 정하는 생성기
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator ids = new SnowflakeIdGenerator(0, clock::get);
+        Set<Long> generated = new HashSet<>();
+        
+        //when: 같은 ms에 순번(1024개)보다 많이 생성
+        long previous = 0;
+        for (int i = 0; i < 3000; i++) {
+            long id = ids.next(0);
+            assertThat(id).isGreaterThan(previous);
+            generated.add(id);
+            previous = id;
+        }
+        
+        //when: 시계가 1초 뒤로 감
+        clock.addAndGet(-1000);
+        long afterRewind = ids.next(0);
+        
+        //then: 중복 없이 계속 증가
+        assertThat(generated).hasSize(3000);
+        assertThat(afterRewind).isGreaterThan(previous);
+    }
+    
+    @Test
+    @DisplayName("노드 번호가 다르면 같은 ms에도 ID가 겹치지 않는다.")
+    public void nodeTest() {
+        //given: 같은 시각을 쓰는 두 노드
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+        Set<Long> generated = new HashSet<>();
+        
+        //when
+        for (int i = 0; i < 100; i++) {
+            generated.add(node1.next(5));
+            generated.add(node2.next(5));
+        }
+        
+        //then
+        assertThat(generated).hasSize(200);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}